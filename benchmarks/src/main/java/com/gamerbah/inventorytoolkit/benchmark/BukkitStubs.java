@@ -0,0 +1,382 @@
+package com.gamerbah.inventorytoolkit.benchmark;
+/* Created by GamerBah on 10/17/2026 */
+
+import org.bukkit.Bukkit;
+import org.bukkit.GameMode;
+import org.bukkit.Material;
+import org.bukkit.Server;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.InventoryView;
+import org.bukkit.inventory.ItemFactory;
+import org.bukkit.inventory.ItemFlag;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * Lightweight stand-ins for the parts of the Bukkit server the toolkit touches
+ * <p>
+ * Everything is backed by {@link Proxy} so only the methods the benchmarks reach
+ * need an implementation; any other call returns a zero value. Item metas copy
+ * their state on {@code clone()} the same way CraftBukkit's do, so meta churn
+ * still shows up in the numbers
+ */
+final class BukkitStubs {
+
+    private static final Logger LOGGER = Logger.getLogger("InventoryToolkit-benchmarks");
+    private static final ItemFactory ITEM_FACTORY = proxy(ItemFactory.class, BukkitStubs::itemFactory);
+    private static boolean installed = false;
+
+    private BukkitStubs() {
+    }
+
+    /**
+     * Installs the stub {@link Server}, once per JVM
+     */
+    static synchronized void install() {
+        if (installed)
+            return;
+        Bukkit.setServer(proxy(Server.class, (self, method, args) -> {
+            switch (method.getName()) {
+                case "getLogger":
+                    return LOGGER;
+                case "getName":
+                    return "StubServer";
+                case "getVersion":
+                case "getBukkitVersion":
+                    return "1.12.2-R0.1-SNAPSHOT";
+                case "getItemFactory":
+                    return ITEM_FACTORY;
+                case "isPrimaryThread":
+                    return true;
+                case "createInventory":
+                    final int size = args[1] instanceof Integer ? (Integer) args[1] : ((InventoryType) args[1]).getDefaultSize();
+                    return inventory((InventoryHolder) args[0], size, args.length > 2 ? (String) args[2] : "Chest");
+                default:
+                    return zero(method);
+            }
+        }));
+        installed = true;
+    }
+
+    /**
+     * Creates a stub {@link Player} that holds every permission
+     *
+     * @return the player
+     */
+    static Player player() {
+        final UUID uuid = UUID.randomUUID();
+        final PlayerInventory playerInventory = proxy(PlayerInventory.class, (self, method, args) -> {
+            switch (method.getName()) {
+                case "getArmorContents":
+                    return new ItemStack[4];
+                case "getSize":
+                    return 41;
+                default:
+                    return zero(method);
+            }
+        });
+        final StubView view = new StubView();
+        final Player player = proxy(Player.class, (self, method, args) -> {
+            switch (method.getName()) {
+                case "getUniqueId":
+                    return uuid;
+                case "getName":
+                    return "Benchmark";
+                case "hasPermission":
+                case "isOnline":
+                    return true;
+                case "getGameMode":
+                    return GameMode.SURVIVAL;
+                case "getInventory":
+                    return playerInventory;
+                case "getOpenInventory":
+                    return view;
+                case "openInventory":
+                    if (args[0] instanceof Inventory)
+                        view.top = (Inventory) args[0];
+                    return view;
+                default:
+                    return zero(method);
+            }
+        });
+        view.player = player;
+        view.bottom = playerInventory;
+        return player;
+    }
+
+    private static Inventory inventory(final InventoryHolder holder, final int size, final String title) {
+        final ItemStack[] contents = new ItemStack[size];
+        return proxy(Inventory.class, (self, method, args) -> {
+            switch (method.getName()) {
+                case "getSize":
+                    return size;
+                case "getMaxStackSize":
+                    return 64;
+                case "getName":
+                case "getTitle":
+                    return title;
+                case "getHolder":
+                    return holder;
+                case "getType":
+                    return InventoryType.CHEST;
+                case "getItem":
+                    return contents[(Integer) args[0]];
+                case "setItem":
+                    contents[(Integer) args[0]] = copy((ItemStack) args[1]);
+                    return null;
+                case "clear":
+                    if (args == null || args.length == 0) {
+                        Arrays.fill(contents, null);
+                    } else contents[(Integer) args[0]] = null;
+                    return null;
+                case "getContents":
+                case "getStorageContents":
+                    return contents.clone();
+                case "getViewers":
+                    return Collections.emptyList();
+                default:
+                    return zero(method);
+            }
+        });
+    }
+
+    /**
+     * Copies a stack the way CraftInventory does when converting it for the server
+     */
+    private static ItemStack copy(final ItemStack item) {
+        if (item == null || item.getType() == Material.AIR)
+            return null;
+        final ItemStack copy = new ItemStack(item.getType(), item.getAmount(), item.getDurability());
+        copy.setItemMeta(item.getItemMeta());
+        return copy;
+    }
+
+    private static Object itemFactory(final Object self, final Method method, final Object[] args) {
+        switch (method.getName()) {
+            case "getItemMeta":
+                return ((Material) args[0]) == Material.AIR ? null : meta(new MetaState());
+            case "isApplicable":
+                return true;
+            case "asMetaFor":
+                return args[0];
+            case "equals":
+                if (args.length == 1)
+                    return self == args[0];
+                return Objects.equals(stateOf((ItemMeta) args[0]), stateOf((ItemMeta) args[1]));
+            default:
+                return zero(method);
+        }
+    }
+
+    private static ItemMeta meta(final MetaState state) {
+        return (ItemMeta) Proxy.newProxyInstance(BukkitStubs.class.getClassLoader(), new Class[]{ItemMeta.class}, new MetaHandler(state));
+    }
+
+    private static MetaState stateOf(final ItemMeta meta) {
+        return meta == null ? new MetaState() : ((MetaHandler) Proxy.getInvocationHandler(meta)).state;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(final Class<T> type, final Handler handler) {
+        return (T) Proxy.newProxyInstance(BukkitStubs.class.getClassLoader(), new Class[]{type}, (self, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                switch (method.getName()) {
+                    case "equals":
+                        return self == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(self);
+                    default:
+                        return type.getSimpleName() + "Stub";
+                }
+            }
+            return handler.invoke(self, method, args);
+        });
+    }
+
+    private static Object zero(final Method method) {
+        final Class<?> type = method.getReturnType();
+        if (type == boolean.class)
+            return false;
+        if (type == int.class)
+            return 0;
+        if (type == long.class)
+            return 0L;
+        if (type == double.class)
+            return 0D;
+        if (type == float.class)
+            return 0F;
+        if (type == short.class)
+            return (short) 0;
+        if (type == byte.class)
+            return (byte) 0;
+        if (type == char.class)
+            return (char) 0;
+        return null;
+    }
+
+    private interface Handler {
+        Object invoke(Object self, Method method, Object[] args) throws Throwable;
+    }
+
+    /**
+     * The mutable state behind a stub {@link ItemMeta}
+     */
+    private static final class MetaState {
+        private String displayName;
+        private List<String> lore;
+        private Map<Enchantment, Integer> enchants = new LinkedHashMap<>();
+        private Set<ItemFlag> flags = EnumSet.noneOf(ItemFlag.class);
+        private boolean unbreakable;
+
+        private MetaState copy() {
+            final MetaState copy = new MetaState();
+            copy.displayName = displayName;
+            copy.lore = lore == null ? null : new ArrayList<>(lore);
+            copy.enchants = new LinkedHashMap<>(enchants);
+            copy.flags = EnumSet.copyOf(flags);
+            copy.unbreakable = unbreakable;
+            return copy;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (!(o instanceof MetaState))
+                return false;
+            final MetaState other = (MetaState) o;
+            return unbreakable == other.unbreakable && Objects.equals(displayName, other.displayName)
+                    && Objects.equals(lore, other.lore) && enchants.equals(other.enchants) && flags.equals(other.flags);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(displayName, lore, enchants, flags, unbreakable);
+        }
+    }
+
+    private static final class MetaHandler implements InvocationHandler {
+
+        private final MetaState state;
+
+        private MetaHandler(final MetaState state) {
+            this.state = state;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object invoke(final Object self, final Method method, final Object[] args) {
+            if (method.getDeclaringClass() == Object.class) {
+                switch (method.getName()) {
+                    case "equals":
+                        return args[0] instanceof ItemMeta && Proxy.isProxyClass(args[0].getClass())
+                                && state.equals(stateOf((ItemMeta) args[0]));
+                    case "hashCode":
+                        return state.hashCode();
+                    default:
+                        return "ItemMetaStub";
+                }
+            }
+            switch (method.getName()) {
+                case "clone":
+                    return meta(state.copy());
+                case "hasDisplayName":
+                    return state.displayName != null;
+                case "getDisplayName":
+                    return state.displayName;
+                case "setDisplayName":
+                    state.displayName = (String) args[0];
+                    return null;
+                case "hasLore":
+                    return state.lore != null && !state.lore.isEmpty();
+                case "getLore":
+                    return state.lore == null ? null : new ArrayList<>(state.lore);
+                case "setLore":
+                    state.lore = args[0] == null ? null : new ArrayList<>((List<String>) args[0]);
+                    return null;
+                case "hasEnchants":
+                    return !state.enchants.isEmpty();
+                case "hasEnchant":
+                    return state.enchants.containsKey(args[0]);
+                case "getEnchantLevel":
+                    return state.enchants.getOrDefault(args[0], 0);
+                case "getEnchants":
+                    return new HashMap<>(state.enchants);
+                case "addEnchant":
+                    return state.enchants.put((Enchantment) args[0], (Integer) args[1]) == null;
+                case "removeEnchant":
+                    return state.enchants.remove(args[0]) != null;
+                case "addItemFlags":
+                    state.flags.addAll(Arrays.asList((ItemFlag[]) args[0]));
+                    return null;
+                case "removeItemFlags":
+                    state.flags.removeAll(Arrays.asList((ItemFlag[]) args[0]));
+                    return null;
+                case "getItemFlags":
+                    return EnumSet.copyOf(state.flags);
+                case "hasItemFlag":
+                    return state.flags.contains(args[0]);
+                case "isUnbreakable":
+                    return state.unbreakable;
+                case "setUnbreakable":
+                    state.unbreakable = (Boolean) args[0];
+                    return null;
+                case "serialize":
+                    return new HashMap<String, Object>();
+                default:
+                    return zero(method);
+            }
+        }
+    }
+
+    /**
+     * A chest view over a stub {@link Inventory} and the player's own inventory
+     */
+    private static final class StubView extends InventoryView {
+
+        private Inventory top;
+        private Inventory bottom;
+        private HumanEntity player;
+
+        @Override
+        public Inventory getTopInventory() {
+            return top;
+        }
+
+        @Override
+        public Inventory getBottomInventory() {
+            return bottom;
+        }
+
+        @Override
+        public HumanEntity getPlayer() {
+            return player;
+        }
+
+        @Override
+        public InventoryType getType() {
+            return InventoryType.CHEST;
+        }
+    }
+
+}
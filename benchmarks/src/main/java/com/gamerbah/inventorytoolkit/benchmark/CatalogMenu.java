@@ -0,0 +1,51 @@
+package com.gamerbah.inventorytoolkit.benchmark;
+/* Created by GamerBah on 10/17/2026 */
+
+import com.gamerbah.inventorytoolkit.ClickEvent;
+import com.gamerbah.inventorytoolkit.GameInventory;
+import com.gamerbah.inventorytoolkit.ItemBuilder;
+import org.bukkit.ChatColor;
+import org.bukkit.Material;
+
+import java.util.Random;
+
+/**
+ * A paged catalog menu in the layout the benchmarks exercise:
+ * five search rows with navigation, over a fixed-seed catalog of named items
+ */
+public class CatalogMenu extends GameInventory {
+
+    private static final Material[] MATERIALS = {Material.DIAMOND, Material.GOLD_INGOT, Material.IRON_INGOT,
+            Material.EMERALD, Material.APPLE, Material.BOOK, Material.PAPER, Material.STICK};
+
+    /**
+     * Creates a catalog of the given size
+     *
+     * @param size the amount of items in the catalog
+     */
+    public CatalogMenu(final int size) {
+        super("Catalog", 54);
+        setSearchRows(0, 4);
+        final Random random = new Random(size);
+        for (int i = 0; i < size; i++)
+            addItem(item(random, i));
+    }
+
+    /**
+     * Builds a typical catalog entry
+     *
+     * @param random the source of names and prices
+     * @param id     the id of the entry
+     * @return the entry
+     */
+    static ItemBuilder item(final Random random, final int id) {
+        return new ItemBuilder(MATERIALS[random.nextInt(MATERIALS.length)])
+                .name(ChatColor.values()[random.nextInt(16)] + "Item " + Integer.toString(random.nextInt(1_000_000), 36) + " #" + id)
+                .lore(ChatColor.GRAY + "Price: " + random.nextInt(10_000))
+                .lore(ChatColor.GRAY + "Click to buy")
+                .storeObject(Integer.class, random.nextInt(10_000))
+                .onClick(new ClickEvent(() -> {
+                }, ClickEvent.Type.LEFT));
+    }
+
+}
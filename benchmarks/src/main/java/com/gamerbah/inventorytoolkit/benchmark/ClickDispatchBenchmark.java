@@ -0,0 +1,79 @@
+package com.gamerbah.inventorytoolkit.benchmark;
+/* Created by GamerBah on 10/17/2026 */
+
+import com.gamerbah.inventorytoolkit.InventoryClickListener;
+import com.gamerbah.inventorytoolkit.InventoryToolKit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.event.inventory.InventoryAction;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link InventoryClickListener#onClick(InventoryClickEvent)} for a click on a
+ * catalog item, a click on an empty slot, and a click in the player's own inventory
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClickDispatchBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    public int catalogSize;
+
+    private final InventoryClickListener listener = new InventoryClickListener();
+    private InventoryClickEvent itemClick;
+    private InventoryClickEvent emptyClick;
+    private InventoryClickEvent playerInventoryClick;
+
+    @Setup
+    public void setUp() {
+        BukkitStubs.install();
+        InventoryToolKit.setClickBurst(Integer.MAX_VALUE);
+        InventoryToolKit.setClickRate(Double.MAX_VALUE);
+        final Player player = BukkitStubs.player();
+        final CatalogMenu menu = new CatalogMenu(catalogSize);
+        menu.build(player).open();
+        itemClick = new InventoryClickEvent(player.getOpenInventory(), InventoryType.SlotType.CONTAINER, 4,
+                ClickType.LEFT, InventoryAction.PICKUP_ALL);
+        emptyClick = new InventoryClickEvent(player.getOpenInventory(), InventoryType.SlotType.CONTAINER, 46,
+                ClickType.LEFT, InventoryAction.NOTHING);
+        playerInventoryClick = new InventoryClickEvent(player.getOpenInventory(), InventoryType.SlotType.CONTAINER, 60,
+                ClickType.LEFT, InventoryAction.NOTHING);
+    }
+
+    @Benchmark
+    public boolean clickItem() {
+        listener.onClick(itemClick);
+        return itemClick.isCancelled();
+    }
+
+    @Benchmark
+    public boolean clickEmptySlot() {
+        listener.onClick(emptyClick);
+        return emptyClick.isCancelled();
+    }
+
+    @Benchmark
+    public boolean clickPlayerInventory() {
+        listener.onClick(playerInventoryClick);
+        return playerInventoryClick.isCancelled();
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.gamerbah.inventorytoolkit.benchmark;
+/* Created by GamerBah on 10/17/2026 */
+
+import com.gamerbah.inventorytoolkit.ItemBuilder;
+import org.bukkit.ChatColor;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemFlag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building an {@link ItemBuilder} through a typical chain, with and without
+ * deferring the meta changes until {@code build()}, and cloning one
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemBuilderBenchmark {
+
+    private ItemBuilder catalogItem;
+
+    @Setup
+    public void setUp() {
+        BukkitStubs.install();
+        catalogItem = CatalogMenu.item(new Random(0), 0);
+    }
+
+    @Benchmark
+    public ItemBuilder chain() {
+        return new ItemBuilder(Material.DIAMOND_SWORD)
+                .name(ChatColor.AQUA + "Sword")
+                .lore(ChatColor.GRAY + "A very sharp sword")
+                .lore(ChatColor.GRAY + "Click to equip")
+                .flag(ItemFlag.HIDE_ATTRIBUTES)
+                .unbreakable()
+                .amount(1);
+    }
+
+    @Benchmark
+    public ItemBuilder chainDeferred() {
+        return new ItemBuilder(Material.DIAMOND_SWORD)
+                .deferred()
+                .name(ChatColor.AQUA + "Sword")
+                .lore(ChatColor.GRAY + "A very sharp sword")
+                .lore(ChatColor.GRAY + "Click to equip")
+                .flag(ItemFlag.HIDE_ATTRIBUTES)
+                .unbreakable()
+                .amount(1)
+                .build();
+    }
+
+    @Benchmark
+    public ItemBuilder cloneItem() {
+        return catalogItem.clone();
+    }
+
+}
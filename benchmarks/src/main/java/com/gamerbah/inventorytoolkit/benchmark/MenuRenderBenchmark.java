@@ -0,0 +1,123 @@
+package com.gamerbah.inventorytoolkit.benchmark;
+/* Created by GamerBah on 10/17/2026 */
+
+import com.gamerbah.inventorytoolkit.InventoryBuilder;
+import com.gamerbah.inventorytoolkit.ItemBuilder;
+import com.gamerbah.inventorytoolkit.KeyedComparator;
+import com.gamerbah.inventorytoolkit.ListPageSource;
+import com.gamerbah.inventorytoolkit.PageSource;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures rendering a page, searching and sorting a catalog
+ * <p>
+ * {@code sortItems} switches between two comparators whose orders are already
+ * cached, while {@code sortItemsCold} sorts a fresh source every invocation, so
+ * it measures the sort itself
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MenuRenderBenchmark {
+
+    private static final Comparator<ItemBuilder> BY_NAME = KeyedComparator.byName();
+    private static final Comparator<ItemBuilder> BY_PRICE = KeyedComparator.byStoredObject(Integer.class);
+
+    @Param({"100", "10000", "100000"})
+    public int catalogSize;
+
+    private CatalogMenu menu;
+    private Player player;
+    private InventoryBuilder inventoryBuilder;
+    private int page = 0;
+    private boolean byName = false;
+
+    @Setup
+    public void setUp() {
+        BukkitStubs.install();
+        menu = new CatalogMenu(catalogSize);
+        player = BukkitStubs.player();
+        inventoryBuilder = menu.build(player);
+    }
+
+    @Benchmark
+    @SuppressWarnings("deprecation")
+    public InventoryBuilder page() {
+        page = page >= inventoryBuilder.getMaxPage() ? 0 : page + 1;
+        return inventoryBuilder.page(page);
+    }
+
+    @Benchmark
+    @SuppressWarnings("deprecation")
+    public InventoryBuilder pageUncached() {
+        page = page >= inventoryBuilder.getMaxPage() ? 0 : page + 1;
+        menu.invalidateLayouts();
+        return inventoryBuilder.page(page);
+    }
+
+    @Benchmark
+    public InventoryBuilder search() {
+        return menu.build(player).search("item a");
+    }
+
+    @Benchmark
+    public InventoryBuilder sortItems() {
+        byName = !byName;
+        return inventoryBuilder.sortItems(byName ? BY_NAME : BY_PRICE);
+    }
+
+    @Benchmark
+    public PageSource sortItemsCold(final ColdSource cold) {
+        byName = !byName;
+        return cold.source.sort(byName ? BY_NAME : BY_PRICE);
+    }
+
+    /**
+     * A catalog whose source is replaced before every invocation, so no order is cached
+     */
+    @State(Scope.Thread)
+    public static class ColdSource {
+
+        @Param({"100", "10000", "100000"})
+        public int catalogSize;
+
+        private List<ItemBuilder> items;
+        private ListPageSource source;
+
+        @Setup
+        public void setUp() {
+            BukkitStubs.install();
+            final Random random = new Random(catalogSize);
+            items = new ArrayList<>(catalogSize);
+            for (int i = 0; i < catalogSize; i++)
+                items.add(CatalogMenu.item(random, i));
+        }
+
+        @Setup(Level.Invocation)
+        public void invalidate() {
+            source = new ListPageSource(items);
+        }
+    }
+
+}
@@ -0,0 +1,120 @@
+package com.gamerbah.inventorytoolkit.benchmark;
+/* Created by GamerBah on 10/17/2026 */
+
+import com.gamerbah.inventorytoolkit.ClickEvent;
+import com.gamerbah.inventorytoolkit.GameInventory;
+import com.gamerbah.inventorytoolkit.InventoryBuilder;
+import com.gamerbah.inventorytoolkit.InventoryClickListener;
+import com.gamerbah.inventorytoolkit.InventoryToolKit;
+import com.gamerbah.inventorytoolkit.ItemBuilder;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.event.inventory.InventoryAction;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryType;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that clicks which don't hit an item are handled without allocating,
+ * and that clicks are only dispatched to the session of the clicked menu
+ */
+public class ClickAllocationTest {
+
+    private static final int WARMUP = 200_000;
+    private static final int CLICKS = 100_000;
+
+    private static final com.sun.management.ThreadMXBean THREADS = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final InventoryClickListener listener = new InventoryClickListener();
+
+    @BeforeClass
+    public static void install() {
+        BukkitStubs.install();
+        InventoryToolKit.setClickBurst(Integer.MAX_VALUE);
+        InventoryToolKit.setClickRate(Double.MAX_VALUE);
+    }
+
+    @Test
+    public void emptySlotMissAllocatesNothing() {
+        final Player player = BukkitStubs.player();
+        new CatalogMenu(10).build(player).open();
+        assertEquals(0, bytesPerClick(click(player, 46, InventoryAction.NOTHING)));
+    }
+
+    @Test
+    public void playerInventoryMissAllocatesNothing() {
+        final Player player = BukkitStubs.player();
+        new CatalogMenu(10).build(player).open();
+        assertEquals(0, bytesPerClick(click(player, 60, InventoryAction.NOTHING)));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void staleSessionIsNotDispatched() {
+        final Player player = BukkitStubs.player();
+        final CountingMenu shown = new CountingMenu();
+        final CountingMenu stale = new CountingMenu();
+        final InventoryBuilder shownBuilder = shown.build(player);
+        shownBuilder.open();
+        final int slot = shown.slotIn(shownBuilder);
+        // Building a menu makes it the player's session without opening it
+        stale.build(player).page(0);
+        listener.onClick(click(player, slot, InventoryAction.PICKUP_ALL));
+        assertEquals(0, shown.clicks);
+        assertEquals(0, stale.clicks);
+
+        shownBuilder.open();
+        final InventoryClickEvent event = click(player, slot, InventoryAction.PICKUP_ALL);
+        listener.onClick(event);
+        assertTrue(event.isCancelled());
+        assertEquals(1, shown.clicks);
+        assertEquals(0, stale.clicks);
+    }
+
+    private long bytesPerClick(final InventoryClickEvent event) {
+        for (int i = 0; i < WARMUP; i++)
+            listener.onClick(event);
+        final long id = Thread.currentThread().getId();
+        // Reading the counter may allocate, so measure that on its own and subtract it
+        final long overheadStart = THREADS.getThreadAllocatedBytes(id);
+        final long overhead = THREADS.getThreadAllocatedBytes(id) - overheadStart;
+        final long start = THREADS.getThreadAllocatedBytes(id);
+        for (int i = 0; i < CLICKS; i++)
+            listener.onClick(event);
+        final long allocated = THREADS.getThreadAllocatedBytes(id) - start - overhead;
+        return Math.max(0, allocated) / CLICKS;
+    }
+
+    private static InventoryClickEvent click(final Player player, final int rawSlot, final InventoryAction action) {
+        return new InventoryClickEvent(player.getOpenInventory(), InventoryType.SlotType.CONTAINER, rawSlot, ClickType.LEFT, action);
+    }
+
+    /**
+     * A single-item menu that counts clicks on its item
+     */
+    private static final class CountingMenu extends GameInventory {
+
+        private int clicks = 0;
+
+        private CountingMenu() {
+            super("Counting", 54);
+            setSearchRows(0, 4);
+            setBackButton(false);
+            addItem(new ItemBuilder(Material.DIAMOND).name("Counted").onClick(new ClickEvent(() -> clicks++, ClickEvent.Type.LEFT)));
+        }
+
+        private int slotIn(final InventoryBuilder inventoryBuilder) {
+            for (int slot = 0; slot < inventoryBuilder.getInventory().getSize(); slot++)
+                if (inventoryBuilder.getItemAt(slot) != null)
+                    return slot;
+            throw new AssertionError("the item isn't shown");
+        }
+    }
+
+}
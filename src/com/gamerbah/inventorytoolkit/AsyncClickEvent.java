@@ -0,0 +1,111 @@
+package com.gamerbah.inventorytoolkit;
+/* Created by GamerBah on 10/17/2026 */
+
+import lombok.Getter;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+/**
+ * A {@link ClickEvent} whose work runs off of the server thread
+ * <p>
+ * The task is ran on {@link InventoryToolKit#getAsyncExecutor()}, and its result is
+ * handed to the completion back on the server thread. While the task is running the
+ * clicked slot is locked, and shows the pending item if one is set
+ *
+ * @param <T> the type of result the task produces
+ */
+public class AsyncClickEvent<T> extends ClickEvent {
+
+    @Getter
+    private final Supplier<T> task;
+    @Getter
+    private final Consumer<T> completion;
+    @Getter
+    private ItemBuilder pendingItem;
+
+    /**
+     * Creates a new Async Click Event with the given {@link Type}
+     *
+     * @param task       the work to run off of the server thread
+     * @param completion receives the task's result on the server thread
+     * @param types      Types of clicks that will run this event
+     */
+    public AsyncClickEvent(final Supplier<T> task, final Consumer<T> completion, final Type... types) {
+        super(types);
+        this.task = Objects.requireNonNull(task, "task cannot be null");
+        this.completion = Objects.requireNonNull(completion, "completion cannot be null");
+    }
+
+    /**
+     * Creates a new Async Click Event using the default {@link Type} (ANY)
+     *
+     * @param task       the work to run off of the server thread
+     * @param completion receives the task's result on the server thread
+     */
+    public AsyncClickEvent(final Supplier<T> task, final Consumer<T> completion) {
+        this(task, completion, Type.ANY);
+    }
+
+    /**
+     * Sets the item shown in the clicked slot until the task completes
+     *
+     * @param pendingItem the item to show, or null to leave the slot as is
+     * @return this class for chaining
+     */
+    public AsyncClickEvent<T> pendingItem(final ItemBuilder pendingItem) {
+        this.pendingItem = pendingItem;
+        return this;
+    }
+
+    /**
+     * Runs the task without locking any slot
+     *
+     * @return a future that completes once the completion has been applied on the server thread
+     * @throws IllegalStateException if InventoryToolKit isn't enabled
+     */
+    public CompletableFuture<T> submit() {
+        return CompletableFuture.supplyAsync(task, executor())
+                .whenCompleteAsync(this::complete, InventoryToolKit.getMainThreadExecutor());
+    }
+
+    @Override
+    protected void execute(final InventoryBuilder inventoryBuilder, final int slot) {
+        if (inventoryBuilder == null) {
+            submit();
+            return;
+        }
+        executor();
+        final int token = inventoryBuilder.lockSlot(slot, pendingItem);
+        submit().whenComplete((result, throwable) -> inventoryBuilder.unlockSlot(slot, token));
+    }
+
+    /**
+     * Gets the executor to run the task on, before any slot is locked for it
+     *
+     * @return the async executor
+     * @throws IllegalStateException if InventoryToolKit isn't enabled, as there's no
+     *                               executor and no way back to the server thread
+     */
+    private static Executor executor() {
+        final Executor executor = InventoryToolKit.getAsyncExecutor();
+        if (executor == null || InventoryToolKit.getInstance() == null || !InventoryToolKit.getInstance().isEnabled())
+            throw new IllegalStateException("AsyncClickEvents can't run while InventoryToolKit is disabled");
+        return executor;
+    }
+
+    private void complete(final T result, final Throwable throwable) {
+        try {
+            if (throwable != null) {
+                InventoryToolKit.getInstance().getLogger().log(Level.WARNING, "Async click task failed", throwable);
+            } else completion.accept(result);
+        } catch (Exception e) {
+            InventoryToolKit.getInstance().getLogger().log(Level.WARNING, "Async click completion failed", e);
+        }
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.gamerbah.inventorytoolkit;
+/* Created by GamerBah on 10/17/2026 */
+
+import lombok.Getter;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A typed key for attaching data to an {@link ItemBuilder}
+ * <p>
+ * Keys are compared by identity, so create each one once and keep it in a constant:
+ * <pre>
+ * public static final AttachmentKey&lt;Integer&gt; PRICE = AttachmentKey.create("price", Integer.class);
+ * </pre>
+ *
+ * @param <T> the type of the attached value
+ * @see ItemBuilder#attach(AttachmentKey, Object)
+ */
+public final class AttachmentKey<T> {
+
+    private static final ConcurrentHashMap<Class<?>, AttachmentKey<?>> BY_CLASS = new ConcurrentHashMap<>();
+
+    @Getter
+    private final String name;
+    @Getter
+    private final Class<T> type;
+    private final boolean classKey;
+
+    private AttachmentKey(final String name, final Class<T> type, final boolean classKey) {
+        this.name = Objects.requireNonNull(name, "name cannot be null");
+        this.type = Objects.requireNonNull(type, "type cannot be null");
+        this.classKey = classKey;
+    }
+
+    /**
+     * Creates a new key, distinct from every other key even of the same type
+     *
+     * @param name the name of the key, for debugging
+     * @param type the type of the attached value
+     * @param <T>  the type of the attached value
+     * @return the new key
+     */
+    public static <T> AttachmentKey<T> create(final String name, final Class<T> type) {
+        return new AttachmentKey<>(name, type, false);
+    }
+
+    /**
+     * Gets the key that {@code ItemBuilder.storeObject(Class, Object)} stores objects of a class under
+     *
+     * @param type the class
+     * @param <T>  the type of the class
+     * @return the key, which is the same instance for every call with the same class
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> AttachmentKey<T> of(final Class<T> type) {
+        return (AttachmentKey<T>) BY_CLASS.computeIfAbsent(type, key -> new AttachmentKey<>(key.getSimpleName(), key, true));
+    }
+
+    /**
+     * Checks whether this is the key of a class, as used by {@code ItemBuilder.storeObject(Class, Object)}
+     *
+     * @return true if this key was created by {@code of(Class)}
+     */
+    public boolean isClassKey() {
+        return classKey;
+    }
+
+    @Override
+    public String toString() {
+        return "AttachmentKey(" + name + ")";
+    }
+
+}
@@ -5,8 +5,6 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.bukkit.event.inventory.ClickType;
 
-import java.util.Arrays;
-import java.util.HashSet;
 import java.util.Objects;
 
 public class ClickEvent {
@@ -16,6 +14,8 @@ public class ClickEvent {
     @Getter
     private Runnable action;
 
+    private final int clickMask;
+
     /**
      * Creates a new Click Event with the given {@link Type} and {@link Runnable}
      *
@@ -25,6 +25,20 @@ public class ClickEvent {
     public ClickEvent(final Runnable action, final Type... types) {
         this.clickTypes = Objects.requireNonNull(types, "cannot create ClickEvent with no types");
         this.action = Objects.requireNonNull(action, "action cannot be null");
+        this.clickMask = compileMask(types);
+    }
+
+    /**
+     * Creates a new Click Event whose action is supplied by {@code execute(InventoryBuilder, int)}
+     * <p>
+     * Subclasses using this constructor must override {@code execute(InventoryBuilder, int)}
+     *
+     * @param types Types of clicks that will run this event
+     */
+    protected ClickEvent(final Type... types) {
+        this.clickTypes = Objects.requireNonNull(types, "cannot create ClickEvent with no types");
+        this.action = () -> execute(null, -1);
+        this.clickMask = compileMask(types);
     }
 
     /**
@@ -36,6 +50,36 @@ public class ClickEvent {
         this(action, Type.ANY);
     }
 
+    /**
+     * Checks whether this event should run for the given {@link ClickType}
+     * <p>
+     * The types are compiled into a bitmask when the event is created,
+     * so this check doesn't loop or allocate
+     *
+     * @param clickType the {@link ClickType} of the click
+     * @return true if this event handles that type of click
+     */
+    public boolean matches(final ClickType clickType) {
+        return (clickMask & (1 << clickType.ordinal())) != 0;
+    }
+
+    /**
+     * Runs this event for a click on the given slot
+     *
+     * @param inventoryBuilder the {@link InventoryBuilder} that was clicked, or null if ran outside of a click
+     * @param slot             the raw slot that was clicked
+     */
+    protected void execute(final InventoryBuilder inventoryBuilder, final int slot) {
+        action.run();
+    }
+
+    private static int compileMask(final Type... types) {
+        int mask = 0;
+        for (Type type : types)
+            mask |= (type == Type.ANY ? -1 : 1 << type.getClickType().ordinal());
+        return mask;
+    }
+
     /**
      * Enum class to simplify Bukkit's own {@link ClickType} enum
      * <p>
@@ -0,0 +1,56 @@
+package com.gamerbah.inventorytoolkit;
+/* Created by GamerBah on 10/17/2026 */
+
+import lombok.Getter;
+
+/**
+ * A token bucket used to limit how often a player can click a menu
+ * <p>
+ * The bucket starts full and refills continuously, so short bursts are allowed
+ * while sustained spam is held to the refill rate
+ */
+public class ClickLimiter {
+
+    @Getter
+    private final int capacity;
+    @Getter
+    private final double refillPerSecond;
+    @Getter
+    private long rejected = 0;
+
+    private double tokens;
+    private long lastRefill;
+
+    /**
+     * Creates a new, full ClickLimiter
+     *
+     * @param capacity        the most clicks that can be made in a burst
+     * @param refillPerSecond how many clicks are regained every second
+     */
+    public ClickLimiter(final int capacity, final double refillPerSecond) {
+        if (capacity < 1 || refillPerSecond <= 0)
+            throw new IllegalArgumentException("capacity must be >= 1 and refillPerSecond must be > 0");
+        this.capacity = capacity;
+        this.refillPerSecond = refillPerSecond;
+        this.tokens = capacity;
+        this.lastRefill = System.nanoTime();
+    }
+
+    /**
+     * Takes a token from the bucket if there is one
+     *
+     * @return true if the click is allowed
+     */
+    public boolean tryAcquire() {
+        final long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + ((now - lastRefill) / 1_000_000_000D) * refillPerSecond);
+        lastRefill = now;
+        if (tokens >= 1) {
+            tokens--;
+            return true;
+        }
+        rejected++;
+        return false;
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.gamerbah.inventorytoolkit;
+/* Created by GamerBah on 10/17/2026 */
+
+import lombok.Getter;
+import lombok.Setter;
+import org.json.simple.JSONObject;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records how long clicks take to handle, per {@link GameInventory} name
+ * <p>
+ * Each menu gets a {@link LatencyHistogram} for the whole dispatch, the permission
+ * check, and the click actions. While disabled, the listener skips every
+ * {@link System#nanoTime()} call, so the only cost is reading a single flag
+ */
+public class ClickTimings {
+
+    @Getter
+    @Setter
+    private static volatile boolean enabled = false;
+
+    private static final ConcurrentHashMap<String, ClickTimings> timings = new ConcurrentHashMap<>();
+
+    @Getter
+    private final LatencyHistogram dispatch = new LatencyHistogram();
+    @Getter
+    private final LatencyHistogram permission = new LatencyHistogram();
+    @Getter
+    private final LatencyHistogram action = new LatencyHistogram();
+
+    /**
+     * Gets the timings for a menu, creating them if needed
+     *
+     * @param name the name of the {@link GameInventory}
+     * @return the timings for that menu
+     */
+    public static ClickTimings of(final String name) {
+        return timings.computeIfAbsent(name, key -> new ClickTimings());
+    }
+
+    /**
+     * Clears the timings of every menu
+     */
+    public static void reset() {
+        timings.clear();
+    }
+
+    /**
+     * Summarizes the timings of every menu, slowest dispatch first
+     *
+     * @return one line per menu
+     */
+    public static List<String> summarize() {
+        final List<Map.Entry<String, ClickTimings>> entries = new ArrayList<>(timings.entrySet());
+        entries.sort((a, b) -> Long.compare(b.getValue().dispatch.getPercentile(99), a.getValue().dispatch.getPercentile(99)));
+        final List<String> lines = new ArrayList<>();
+        for (Map.Entry<String, ClickTimings> entry : entries) {
+            final ClickTimings value = entry.getValue();
+            lines.add(entry.getKey() + ": " + value.dispatch.getCount() + " clicks"
+                    + " | dispatch " + format(value.dispatch)
+                    + " | permission " + format(value.permission)
+                    + " | action " + format(value.action));
+        }
+        return lines;
+    }
+
+    /**
+     * Writes the timings of every menu to a JSON file
+     *
+     * @param file the file to write to
+     * @throws IOException if the file couldn't be written
+     */
+    @SuppressWarnings("unchecked")
+    public static void save(final File file) throws IOException {
+        final JSONObject root = new JSONObject();
+        for (Map.Entry<String, ClickTimings> entry : new TreeMap<>(timings).entrySet()) {
+            final JSONObject menu = new JSONObject();
+            menu.put("dispatch", toJson(entry.getValue().dispatch));
+            menu.put("permission", toJson(entry.getValue().permission));
+            menu.put("action", toJson(entry.getValue().action));
+            root.put(entry.getKey(), menu);
+        }
+        if (file.getParentFile() != null)
+            file.getParentFile().mkdirs();
+        try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            root.writeJSONString(writer);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static JSONObject toJson(final LatencyHistogram histogram) {
+        final JSONObject json = new JSONObject();
+        json.put("count", histogram.getCount());
+        json.put("meanNanos", histogram.getMean());
+        json.put("p50Nanos", histogram.getPercentile(50));
+        json.put("p90Nanos", histogram.getPercentile(90));
+        json.put("p99Nanos", histogram.getPercentile(99));
+        json.put("maxNanos", histogram.getMax());
+        return json;
+    }
+
+    private static String format(final LatencyHistogram histogram) {
+        return String.format("p50 %.3fms p99 %.3fms max %.3fms",
+                histogram.getPercentile(50) / 1e6, histogram.getPercentile(99) / 1e6, histogram.getMax() / 1e6);
+    }
+
+}
@@ -1,7 +1,6 @@
 package com.gamerbah.inventorytoolkit;
 /* Created by GamerBah on 7/22/2017 */
 
-import com.google.common.collect.Maps;
 import lombok.Getter;
 import lombok.Setter;
 import org.bukkit.Bukkit;
@@ -12,7 +11,16 @@ import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.InventoryHolder;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
 
 public class GameInventory implements InventoryHolder {
 
@@ -46,10 +54,27 @@ public class GameInventory implements InventoryHolder {
     private boolean showPageNumbers = false;
     @Getter
     private String pageNumberFormat = "(%c/%m)";
+    @Getter
+    private boolean prefetchPages = false;
+    @Getter
+    private boolean searchLore = false;
 
     private ArrayList<ItemBuilder> items = new ArrayList<>();
-    private HashMap<Integer, ItemBuilder> buttons = new HashMap<>();
+    private ListPageSource itemSource = new ListPageSource(items, new SearchIndex(items, false));
+    private PageSource pageSource;
+    private List<ItemBuilder> buttons;
     private HashMap<Integer, DyeColor> borders = new HashMap<>();
+    private boolean bordersApplied = false;
+    private int layoutVersion = 0;
+    private final LinkedHashMap<LayoutKey, ItemBuilder[]> layouts = new LinkedHashMap<LayoutKey, ItemBuilder[]>(16, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<LayoutKey, ItemBuilder[]> eldest) {
+            return size() > MAX_LAYOUTS;
+        }
+    };
+
+    private static final int MAX_LAYOUTS = 64;
+    private static final EnumMap<DyeColor, ItemTemplate> BORDER_PANES = new EnumMap<>(DyeColor.class);
 
     /**
      * Creates a new GameInventory object
@@ -61,6 +86,7 @@ public class GameInventory implements InventoryHolder {
      */
     public GameInventory(final String name, final int itemCount, final int size, final GameInventory previousInventory) {
         this.inventory = Bukkit.getServer().createInventory(this, size, name);
+        this.buttons = Collections.unmodifiableList(Arrays.asList(new ItemBuilder[size]));
         this.name = name;
         this.itemCount = itemCount;
         this.previousInventory = previousInventory;
@@ -112,13 +138,17 @@ public class GameInventory implements InventoryHolder {
      * Adds a new sortable item
      * <p>
      * NOTE: Items are not physically added to the {@link Inventory} until it's opened
+     * <p>
+     * The item is copied, unless it's an {@link ItemTemplate}, and changes a
+     * {@code deferred()} item hasn't built yet are applied to the copy
      *
      * @param itemBuilder the {@link ItemBuilder} to add
      * @see ItemBuilder
      * @see InventoryBuilder
      */
     protected void addItem(final ItemBuilder itemBuilder) {
-        items.add(itemBuilder.clone());
+        items.add(itemBuilder.share().build());
+        invalidateLayouts();
     }
 
     /**
@@ -133,9 +163,107 @@ public class GameInventory implements InventoryHolder {
         return items;
     }
 
+    /**
+     * Gets the {@link PageSource} the sortable items are paged from
+     * <p>
+     * Unless one was set, this is a read-only view of the items added
+     * with {@code addItem(ItemBuilder)}, shared by every viewer and searched
+     * through a {@link SearchIndex} that is built on the first search
+     *
+     * @return the page source
+     */
+    public PageSource getPageSource() {
+        return pageSource != null ? pageSource : itemSource;
+    }
+
+    /**
+     * Sets the {@link PageSource} the sortable items are paged from
+     * <p>
+     * Use this instead of {@code addItem(ItemBuilder)} for catalogs too large to
+     * keep in memory; only the slice on screen will be loaded
+     *
+     * @param pageSource the source to page through
+     * @throws IllegalArgumentException if pageSource is null
+     * @see KeysetPageSource
+     * @see OffsetPageSource
+     */
+    protected void setPageSource(final PageSource pageSource) {
+        if (pageSource == null)
+            throw new IllegalArgumentException("pageSource cannot be null!");
+        this.pageSource = pageSource;
+        invalidateLayouts();
+    }
+
+    /**
+     * Gets the rendered layout of a page, rendering and caching it if needed
+     * <p>
+     * A layout holds the items and buttons of a page indexed by slot, and is shared
+     * by every viewer on the same page with the same search, filter and sort, so it must
+     * not be modified. Sorts are compared by identity, so viewers only share sorted
+     * layouts when they sort with the same {@link Comparator} instance
+     *
+     * @param page        the page
+     * @param search      the search keyword, or "" if not searching
+     * @param filterKey   the key of the attachment filtered by, or null if not filtering
+     * @param filterValue the value the attachment is filtered by
+     * @param sort        the sort, or null if unsorted
+     * @param render      renders the layout if it isn't cached
+     * @return the layout
+     */
+    ItemBuilder[] getLayout(final int page, final String search, final AttachmentKey<?> filterKey, final Object filterValue,
+                            final Comparator<ItemBuilder> sort, final Supplier<ItemBuilder[]> render) {
+        final LayoutKey key = new LayoutKey(page, search, filterKey, filterValue, sort);
+        ItemBuilder[] layout = layouts.get(key);
+        if (layout == null) {
+            layout = render.get();
+            layouts.put(key, layout);
+        }
+        return layout;
+    }
+
+    /**
+     * Checks whether the layout of a page is already cached
+     *
+     * @param page        the page
+     * @param search      the search keyword, or "" if not searching
+     * @param filterKey   the key of the attachment filtered by, or null if not filtering
+     * @param filterValue the value the attachment is filtered by
+     * @param sort        the sort, or null if unsorted
+     * @return true if the layout is cached
+     */
+    boolean hasLayout(final int page, final String search, final AttachmentKey<?> filterKey, final Object filterValue,
+                      final Comparator<ItemBuilder> sort) {
+        return layouts.containsKey(new LayoutKey(page, search, filterKey, filterValue, sort));
+    }
+
+    /**
+     * Discards every cached page layout
+     * <p>
+     * Layouts are discarded automatically when items, buttons or borders change.
+     * Call this when the data behind a custom {@link PageSource} changes
+     */
+    public void invalidateLayouts() {
+        layouts.clear();
+        layoutVersion++;
+    }
+
+    /**
+     * Gets how many times the layouts have been invalidated, so viewers can
+     * tell when pages they loaded ahead of time are out of date
+     *
+     * @return the layout version
+     */
+    int getLayoutVersion() {
+        return layoutVersion;
+    }
+
     /**
      * Adds a static, unsortable item that is added to the
      * inventory once the inventory is opened
+     * <p>
+     * Like {@code addItem(ItemBuilder)}, the item is copied unless it's an
+     * {@link ItemTemplate}, and changes a {@code deferred()} item hasn't built yet
+     * are applied to the copy
      *
      * @param slot        the {@link Inventory} slot this item will be held in
      * @param itemBuilder the {@link ItemBuilder} to add
@@ -145,23 +273,46 @@ public class GameInventory implements InventoryHolder {
     protected void addButton(final int slot, final ItemBuilder itemBuilder) {
         if (slot >= inventory.getSize())
             throw new IllegalArgumentException("slot must be < inventory size!");
-        this.buttons.put(slot, itemBuilder);
+        final ItemBuilder[] slots = buttons.toArray(new ItemBuilder[Math.max(buttons.size(), inventory.getSize())]);
+        slots[slot] = itemBuilder == null ? null : itemBuilder.share().build();
+        this.buttons = Collections.unmodifiableList(Arrays.asList(slots));
+        invalidateLayouts();
     }
 
     /**
      * Gets the list of static buttons
      *
      * @return the list of buttons, deep copied
+     * @see #getButtonSlots()
      */
     public HashMap<Integer, ItemBuilder> getButtons() {
-        return Maps.newHashMap(this.buttons);
+        final HashMap<Integer, ItemBuilder> buttons = new HashMap<>();
+        for (int slot = 0; slot < this.buttons.size(); slot++)
+            if (this.buttons.get(slot) != null)
+                buttons.put(slot, this.buttons.get(slot));
+        return buttons;
+    }
+
+    /**
+     * Gets a read-only snapshot of the static buttons, indexed by slot
+     * <p>
+     * The snapshot is only rebuilt when buttons are added or cleared, so it's
+     * safe to hold onto and cheap to call on every click or open.
+     * Slots without a button are null
+     *
+     * @return the button snapshot
+     */
+    public List<ItemBuilder> getButtonSlots() {
+        return buttons;
     }
 
     /**
      * Clears the list of buttons
      */
     public void clearButtons() {
-        this.buttons.clear();
+        this.buttons = Collections.unmodifiableList(Arrays.asList(new ItemBuilder[inventory.getSize()]));
+        bordersApplied = false;
+        invalidateLayouts();
     }
 
     /**
@@ -205,6 +356,7 @@ public class GameInventory implements InventoryHolder {
             throw new IllegalArgumentException("Rows cannot be > max rows of inventory!");
         searchStart = startRow;
         searchEnd = stopRow;
+        invalidateLayouts();
     }
 
     /**
@@ -229,6 +381,7 @@ public class GameInventory implements InventoryHolder {
     protected void setSearchOffset(final int top, final int bottom) {
         this.topOffset = top;
         this.bottomOffset = bottom;
+        invalidateLayouts();
     }
 
     /**
@@ -257,6 +410,7 @@ public class GameInventory implements InventoryHolder {
         if (borders.containsKey(row))
             throw new IllegalArgumentException("That row is already a border!");
         borders.put(row, color);
+        bordersApplied = false;
     }
 
     /**
@@ -282,6 +436,8 @@ public class GameInventory implements InventoryHolder {
         if (!borders.containsKey(row))
             throw new IllegalArgumentException("Row " + row + " isn't a border!");
         borders.remove(row);
+        bordersApplied = false;
+        invalidateLayouts();
     }
 
     /**
@@ -289,6 +445,8 @@ public class GameInventory implements InventoryHolder {
      */
     protected void removeBorders() {
         borders.clear();
+        bordersApplied = false;
+        invalidateLayouts();
     }
 
     /**
@@ -317,6 +475,7 @@ public class GameInventory implements InventoryHolder {
             this.bottomOffset += 1;
         }
         this.inlineNav = inline;
+        invalidateLayouts();
     }
 
     /**
@@ -328,6 +487,32 @@ public class GameInventory implements InventoryHolder {
         this.allowCreative = allowCreative;
     }
 
+    /**
+     * Sets whether viewers load the pages either side of the current one in the background
+     * <p>
+     * Worth enabling when the {@link PageSource} is slow, such as one backed by a database,
+     * so that flipping a page doesn't wait on the slice being loaded. Sources whose
+     * {@code isThreadSafe()} is false, like the default one over the added items, are never prefetched
+     *
+     * @param prefetchPages whether to prefetch adjacent pages
+     */
+    protected void setPrefetchPages(final boolean prefetchPages) {
+        this.prefetchPages = prefetchPages;
+    }
+
+    /**
+     * Sets whether searches match the lore of items as well as their names
+     * <p>
+     * Lore matches are ranked after name matches. Changing this discards the search index
+     *
+     * @param searchLore whether to search lore
+     */
+    protected void setSearchLore(final boolean searchLore) {
+        this.searchLore = searchLore;
+        this.itemSource = new ListPageSource(items, new SearchIndex(items, searchLore));
+        invalidateLayouts();
+    }
+
     /**
      * Sets whether to display page numbers in the title of the inventory using the default format (%c/%m)
      *
@@ -378,12 +563,57 @@ public class GameInventory implements InventoryHolder {
      * @return a new {@link InventoryBuilder} instance of this GameInventory
      */
     public InventoryBuilder build(final Player player) {
-        if (!borders.isEmpty()) {
+        if (!bordersApplied) {
+            bordersApplied = true;
             borders.forEach((row, color) -> {
                 for (int i = row * 9; i < ((row * 9) + 9); i++)
-                    addButton(i, new ItemBuilder(Material.STAINED_GLASS_PANE).name(" ").durability(Byte.toUnsignedInt(color.getWoolData())));
+                    addButton(i, borderPane(color));
             });
         }
         return new InventoryBuilder(player, this);
     }
-}
\ No newline at end of file
+
+    /**
+     * Gets the shared border pane of a color
+     *
+     * @param color the color of the pane
+     * @return the pane template
+     */
+    private static ItemTemplate borderPane(final DyeColor color) {
+        return BORDER_PANES.computeIfAbsent(color, key -> new ItemBuilder(Material.STAINED_GLASS_PANE)
+                .name(" ").durability(Byte.toUnsignedInt(key.getWoolData())).freeze());
+    }
+
+    private static final class LayoutKey {
+
+        private final int page;
+        private final String search;
+        private final AttachmentKey<?> filterKey;
+        private final Object filterValue;
+        private final Comparator<ItemBuilder> sort;
+
+        private LayoutKey(final int page, final String search, final AttachmentKey<?> filterKey, final Object filterValue,
+                          final Comparator<ItemBuilder> sort) {
+            this.page = page;
+            this.search = search;
+            this.filterKey = filterKey;
+            this.filterValue = filterKey == null ? null : filterValue;
+            this.sort = sort;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (!(o instanceof LayoutKey))
+                return false;
+            final LayoutKey key = (LayoutKey) o;
+            return page == key.page && sort == key.sort && filterKey == key.filterKey
+                    && search.equals(key.search) && Objects.equals(filterValue, key.filterValue);
+        }
+
+        @Override
+        public int hashCode() {
+            final int hash = 31 * (31 * page + search.hashCode()) + System.identityHashCode(filterKey);
+            return 31 * (31 * hash + Objects.hashCode(filterValue)) + System.identityHashCode(sort);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.gamerbah.inventorytoolkit;
+/* Created by GamerBah on 10/17/2026 */
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A {@link PageSource} over a selection of items from a list, such as the results of a {@link SearchIndex} query
+ * <p>
+ * Only the indexes of the selected items are held, so a result view costs
+ * four bytes per match and never copies or modifies the list. Views of a
+ * {@link ListPageSource} are sorted and filtered using its cached orders and indexes
+ */
+public class IndexedPageSource implements PageSource {
+
+    private final List<ItemBuilder> items;
+    private final int[] indexes;
+    private final ListPageSource parent;
+
+    /**
+     * Creates a new source over the selected items
+     *
+     * @param items   the list to select from
+     * @param indexes the indexes of the selected items, in display order
+     */
+    public IndexedPageSource(final List<ItemBuilder> items, final int[] indexes) {
+        this.items = items;
+        this.indexes = indexes;
+        this.parent = null;
+    }
+
+    /**
+     * Creates a new source over the selected items of a {@link ListPageSource}
+     *
+     * @param parent  the source to select from
+     * @param indexes the indexes of the selected items, in display order
+     */
+    IndexedPageSource(final ListPageSource parent, final int[] indexes) {
+        this.items = parent.getItems();
+        this.indexes = indexes;
+        this.parent = parent;
+    }
+
+    @Override
+    public int size() {
+        return indexes.length;
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        return false;
+    }
+
+    @Override
+    public List<ItemBuilder> slice(final int offset, final int limit) {
+        if (offset >= indexes.length || limit <= 0)
+            return Collections.emptyList();
+        final int from = Math.max(0, offset);
+        final int to = Math.min(indexes.length, offset + limit);
+        return new AbstractList<ItemBuilder>() {
+            @Override
+            public ItemBuilder get(final int index) {
+                if (index < 0 || index >= to - from)
+                    throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + (to - from));
+                return items.get(indexes[from + index]);
+            }
+
+            @Override
+            public int size() {
+                return to - from;
+            }
+        };
+    }
+
+    /**
+     * Takes a snapshot of the selected items for searching off of the server thread
+     *
+     * @param includeLore whether lore should be searched as well as names, if there's no {@link SearchIndex}
+     * @return the snapshot, holding the normalized text of the parent's {@link SearchIndex} if it has one
+     */
+    SearchIndex.Snapshot snapshot(final boolean includeLore) {
+        if (parent != null)
+            return parent.snapshot(indexes, includeLore);
+        return new SearchIndex.Snapshot(slice(0, indexes.length), includeLore);
+    }
+
+    @Override
+    public PageSource search(final String keyword) {
+        return new ListPageSource(slice(0, indexes.length)).search(keyword);
+    }
+
+    @Override
+    public <T> PageSource filter(final AttachmentKey<T> key, final T value) {
+        if (parent != null) {
+            final boolean[] attached = new boolean[parent.size()];
+            for (int index : parent.attached(key, value))
+                attached[index] = true;
+            final int[] filtered = new int[indexes.length];
+            int size = 0;
+            for (int index : indexes)
+                if (index < attached.length && attached[index])
+                    filtered[size++] = index;
+            return new IndexedPageSource(parent, Arrays.copyOf(filtered, size));
+        }
+        return new ListPageSource(slice(0, indexes.length)).filter(key, value);
+    }
+
+    @Override
+    public PageSource sort(final Comparator<ItemBuilder> comparator) {
+        if (parent != null) {
+            final int[] order = parent.order(comparator);
+            final boolean[] selected = new boolean[order.length];
+            for (int index : indexes)
+                selected[index] = true;
+            final int[] sorted = new int[indexes.length];
+            int size = 0;
+            for (int index : order)
+                if (selected[index])
+                    sorted[size++] = index;
+            return new IndexedPageSource(parent, sorted);
+        }
+        final List<ItemBuilder> sorted = new ArrayList<>(slice(0, indexes.length));
+        sorted.sort(comparator);
+        return new ListPageSource(sorted);
+    }
+
+}
@@ -2,15 +2,26 @@ package com.gamerbah.inventorytoolkit;
 /* Created by GamerBah on 7/17/2017 */
 
 import lombok.Getter;
-import lombok.Setter;
 import net.md_5.bungee.api.ChatColor;
-import org.apache.commons.lang.StringUtils;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
 
 public class InventoryBuilder {
 
@@ -19,24 +30,56 @@ public class InventoryBuilder {
     @Getter
     private GameInventory gameInventory;
     @Getter
+    private Inventory inventory;
+    @Getter
     private int page = 0, maxPage;
     @Getter
     private String search = "";
     @Getter
     private boolean onlineOnly = false;
     @Getter
-    private ArrayList<ItemBuilder> items;
+    private PageSource source;
     @Getter
-    @Setter
-    private ItemBuilder nextPageItem = new ItemBuilder(Material.ARROW).name(ChatColor.GRAY + "Next Page");
+    private ItemBuilder nextPageItem = new ItemBuilder(NEXT_PAGE_ITEM);
     @Getter
-    @Setter
-    private ItemBuilder previousPageItem = new ItemBuilder(Material.ARROW).name(ChatColor.GRAY + "Previous Page");
+    private ItemBuilder previousPageItem = new ItemBuilder(PREVIOUS_PAGE_ITEM);
     @Getter
-    @Setter
-    private ItemBuilder backItem = new ItemBuilder(Material.ARROW).name(ChatColor.GRAY + "Back");
+    private ItemBuilder backItem = new ItemBuilder(BACK_ITEM);
+    private ItemBuilder nextPageButton, previousPageButton, backButton;
+
+    private static final int SEARCH_CHUNK = 512;
+    private static final ItemTemplate NEXT_PAGE_ITEM = new ItemBuilder(Material.ARROW).name(ChatColor.GRAY + "Next Page").freeze();
+    private static final ItemTemplate PREVIOUS_PAGE_ITEM = new ItemBuilder(Material.ARROW).name(ChatColor.GRAY + "Previous Page").freeze();
+    private static final ItemTemplate BACK_ITEM = new ItemBuilder(Material.ARROW).name(ChatColor.GRAY + "Back").freeze();
 
     private int itemsPerPage;
+    private int layoutVersion;
+    private Comparator<ItemBuilder> sort;
+    private AttachmentKey<?> filterKey;
+    private Object filterValue;
+    private final ItemBuilder[] slots;
+    private final String[] denials;
+    private final int[] locks;
+    private int lockTokens = 0;
+    private final ItemStack[] rendered;
+    @Getter
+    private long slotUpdates = 0;
+    private final HashMap<String, Boolean> permissions = new HashMap<>();
+    @Getter
+    private long lastAccess;
+    @Getter
+    private final ClickLimiter clickLimiter = new ClickLimiter(InventoryToolKit.getClickBurst(), InventoryToolKit.getClickRate());
+    private int queuedPages = 0;
+    private final AtomicInteger searches = new AtomicInteger();
+    private final AtomicBoolean deliveryScheduled = new AtomicBoolean();
+    private StreamingPageSource streaming;
+    @Getter
+    private boolean searching = false;
+    private boolean flipScheduled = false;
+    private final HashMap<Integer, CompletableFuture<List<ItemBuilder>>> prefetched = new HashMap<>();
+    private int prefetchedVersion;
+    @Getter
+    private long prefetchHits = 0, prefetchMisses = 0, prefetchWasted = 0;
 
     /**
      * Creates a new chainable builder for the specified {@link Player} and {@link GameInventory}
@@ -48,21 +91,57 @@ public class InventoryBuilder {
     public InventoryBuilder(Player player, GameInventory gameInventory) {
         this.player = player;
         this.gameInventory = gameInventory;
-        this.items = gameInventory.getItems();
-        this.itemsPerPage = (gameInventory.getSearchRows() * 9) - gameInventory.getTopOffset() - gameInventory.getBottomOffset();
-        this.maxPage = (items.size() <= itemsPerPage ? 0 : (int) Math.floor(items.size() / itemsPerPage));
-        InventoryToolKit.getInventoryUsers().put(player, this);
+        this.source = gameInventory.getPageSource();
+        this.itemsPerPage = itemsPerPage();
+        this.layoutVersion = gameInventory.getLayoutVersion();
+        this.maxPage = lastPage(source.size());
+        this.inventory = Bukkit.getServer().createInventory(gameInventory, gameInventory.getInventory().getSize(), title());
+        this.slots = new ItemBuilder[inventory.getSize()];
+        this.denials = new String[slots.length];
+        this.locks = new int[slots.length];
+        this.rendered = new ItemStack[slots.length];
+        InventoryToolKit.getSessions().put(player, this);
     }
 
 
     /**
      * Sorts the items using the given {@link Comparator}
+     * <p>
+     * Only this builder's view of the items is sorted; the {@link GameInventory}
+     * and other viewers are unaffected. The order of the {@link GameInventory}'s
+     * items under a comparator is computed once and shared by every viewer sorting
+     * with the same instance, so prefer constants such as those of {@link KeyedComparator}
      *
      * @param comparator the {@link Comparator} to use for comparing items
      * @return this class for chaining
+     * @throws UnsupportedOperationException if the {@link PageSource} can't be sorted
      */
     public InventoryBuilder sortItems(final Comparator<ItemBuilder> comparator) {
-        items.sort(comparator);
+        this.sort = comparator;
+        select();
+        return this;
+    }
+
+    /**
+     * Only shows the items with the given value attached under a key
+     * <p>
+     * Calling this will reset the page to 0, and passing a null key clears the filter.
+     * Only this builder's view of the items is filtered, and it still applies while
+     * searching and sorting. Which items of the {@link GameInventory} carry each value
+     * is indexed the first time a key is filtered on, and shared by every viewer
+     *
+     * @param key   the key of the attachment, or null to stop filtering
+     * @param value the value the attachment must equal
+     * @param <T>   the type of the attachment
+     * @return this class for chaining
+     * @throws UnsupportedOperationException if the {@link PageSource} can't be filtered
+     * @see ItemBuilder#attach(AttachmentKey, Object)
+     */
+    public <T> InventoryBuilder filter(final AttachmentKey<T> key, final T value) {
+        this.filterKey = key;
+        this.filterValue = value;
+        select();
+        page(0);
         return this;
     }
 
@@ -78,64 +157,247 @@ public class InventoryBuilder {
      * @deprecated Use {@code open(int page)} instead
      */
     @Deprecated
-    public InventoryBuilder page(final int number) {
+    public InventoryBuilder page(int number) {
+        if (layoutVersion != gameInventory.getLayoutVersion()) {
+            // The search rows, offsets or items may have changed since this builder last rendered.
+            // Layouts are shared by key, so the view has to be rebuilt from the current items
+            // before any page of it is cached again
+            layoutVersion = gameInventory.getLayoutVersion();
+            itemsPerPage = itemsPerPage();
+            if (streaming == null) {
+                select();
+            } else maxPage = lastPage(source.size());
+            number = Math.min(number, maxPage);
+        }
         if (number > maxPage || number < 0)
             throw new IllegalArgumentException("Number must be <= maxPage and >= 0");
         this.page = number;
-        if (gameInventory.isShowPageNumbers()) {
-            final int size = gameInventory.getInventory().getSize();
-            final String name = gameInventory.getName();
-            gameInventory.setInventory(Bukkit.getServer().createInventory(gameInventory, size,
-                    name + " " + gameInventory.getPageNumberFormat().replace("%c", page + "").replace("%m", maxPage + "")));
-        }
+        final String title = title();
+        // Retitle before anything is pushed, so a fallback doesn't render into the old window first
+        if (!title.equals(inventory.getTitle()) && (!isViewing() || !TitleAdapter.get().updateTitle(player, inventory, title)))
+            retitle(title);
 
-        int index = number * itemsPerPage;
-        if (this.items.size() > 0) {
-            for (int i = (gameInventory.getSearchStart() * 9) + gameInventory.getTopOffset(); i < ((gameInventory.getSearchEnd() + 1) * 9) - gameInventory.getBottomOffset(); i++) {
-                if (index < this.items.size()) {
-                    gameInventory.getInventory().setItem(i, this.items.get(index++));
-                } else {
-                    gameInventory.getInventory().setItem(i, null);
-                }
-            }
-        }
+        Arrays.fill(locks, 0);
+        final ItemBuilder[] layout = streaming == null ? gameInventory.getLayout(page, search, filterKey, filterValue, sort, () -> layout(page)) : layout(page);
+        for (int slot = 0; slot < slots.length; slot++)
+            assign(slot, slot < layout.length ? layout[slot] : null);
 
         if (page < maxPage) {
             if (gameInventory.getPageRow() == -1) {
-                gameInventory.addButton((gameInventory.getSearchRows() * 9) - 1,
-                        getNextPageItem().clone().onClick(new ClickEvent(() -> this.nextPage().open())));
-            } else gameInventory.addButton((9 * (gameInventory.getPageRow() + 1)) - 1,
-                    getNextPageItem().clone().onClick(new ClickEvent(() -> this.nextPage().open())));
-        } else {
-            if (gameInventory.getPageRow() == -1) {
-                gameInventory.getInventory().clear((gameInventory.getSearchRows() * 9) - 1);
-            } else gameInventory.getInventory().clear((9 * (gameInventory.getPageRow() + 1)) - 1);
+                assign((gameInventory.getSearchRows() * 9) - 1, nextPageButton());
+            } else assign((9 * (gameInventory.getPageRow() + 1)) - 1, nextPageButton());
         }
         if (page > 0) {
             if (gameInventory.getPageRow() == -1) {
                 if (!gameInventory.isInlineNav()) {
-                    gameInventory.addButton((gameInventory.getSearchRows() - 1) * 9,
-                            getPreviousPageItem().clone().onClick(new ClickEvent(() -> this.previousPage().open())));
+                    assign((gameInventory.getSearchRows() - 1) * 9, previousPageButton());
                 } else {
-                    gameInventory.addButton(gameInventory.getSearchStart() * 9,
-                            getPreviousPageItem().clone().onClick(new ClickEvent(() -> this.previousPage().open())));
+                    assign(gameInventory.getSearchStart() * 9, previousPageButton());
                 }
-            } else gameInventory.addButton((gameInventory.getPageRow() - 1) * 9,
-                    getPreviousPageItem().clone().onClick(new ClickEvent(() -> this.previousPage().open())));
+            } else assign((gameInventory.getPageRow() - 1) * 9, previousPageButton());
         } else if (page == 0)
             if (gameInventory.isBackButton()) {
                 if (gameInventory.getPageRow() != -1) {
-                    gameInventory.addButton(9 * gameInventory.getPageRow(),
-                            getBackItem().clone().onClick(new ClickEvent(() -> this.gameInventory.openPreviousInventory(player))));
+                    assign(9 * gameInventory.getPageRow(), backButton());
                 } else {
                     if (gameInventory.getSearchRows() > 0)
-                        gameInventory.addButton(gameInventory.getSearchStart() * 9,
-                                getBackItem().clone().onClick(new ClickEvent(() -> this.gameInventory.openPreviousInventory(player))));
+                        assign(gameInventory.getSearchStart() * 9, backButton());
                 }
             }
+
+        for (int slot = 0; slot < slots.length; slot++)
+            push(slot, displayed(slot));
+
+        if (gameInventory.isPrefetchPages())
+            prefetch();
         return this;
     }
 
+    /**
+     * Sets the item used for the Next Page button
+     * <p>
+     * The button is built from the item once and reused on every page, so
+     * changes made to the item afterwards only apply after setting it again
+     *
+     * @param nextPageItem the item to use
+     */
+    public void setNextPageItem(final ItemBuilder nextPageItem) {
+        this.nextPageItem = nextPageItem;
+        this.nextPageButton = null;
+    }
+
+    /**
+     * Sets the item used for the Previous Page button
+     *
+     * @param previousPageItem the item to use
+     * @see #setNextPageItem(ItemBuilder)
+     */
+    public void setPreviousPageItem(final ItemBuilder previousPageItem) {
+        this.previousPageItem = previousPageItem;
+        this.previousPageButton = null;
+    }
+
+    /**
+     * Sets the item used for the Back button
+     *
+     * @param backItem the item to use
+     * @see #setNextPageItem(ItemBuilder)
+     */
+    public void setBackItem(final ItemBuilder backItem) {
+        this.backItem = backItem;
+        this.backButton = null;
+    }
+
+    private ItemBuilder nextPageButton() {
+        if (nextPageButton == null)
+            nextPageButton = new ItemBuilder(getNextPageItem()).build().onClick(new ClickEvent(() -> this.flipPage(1)));
+        return nextPageButton;
+    }
+
+    private ItemBuilder previousPageButton() {
+        if (previousPageButton == null)
+            previousPageButton = new ItemBuilder(getPreviousPageItem()).build().onClick(new ClickEvent(() -> this.flipPage(-1)));
+        return previousPageButton;
+    }
+
+    private ItemBuilder backButton() {
+        if (backButton == null)
+            backButton = new ItemBuilder(getBackItem()).build().onClick(new ClickEvent(() -> this.gameInventory.openPreviousInventory(player)));
+        return backButton;
+    }
+
+    /**
+     * Renders the items and buttons of a page, without any of this
+     * {@link Player}'s navigation buttons or permission decisions
+     *
+     * @param number the page
+     * @return the layout, indexed by slot
+     */
+    private ItemBuilder[] layout(final int number) {
+        final ItemBuilder[] layout = new ItemBuilder[slots.length];
+        final List<ItemBuilder> items = slice(number);
+        int index = 0;
+        for (int i = (gameInventory.getSearchStart() * 9) + gameInventory.getTopOffset(); i < ((gameInventory.getSearchEnd() + 1) * 9) - gameInventory.getBottomOffset(); i++)
+            if (i >= 0 && index < items.size())
+                layout[i] = items.get(index++);
+        final List<ItemBuilder> buttons = gameInventory.getButtonSlots();
+        for (int slot = 0; slot < buttons.size() && slot < layout.length; slot++)
+            if (buttons.get(slot) != null)
+                layout[slot] = buttons.get(slot);
+        return layout;
+    }
+
+    /**
+     * Gets the items to show on a page, from the prefetch buffer if it's there
+     *
+     * @param number the page
+     * @return the items on the page
+     */
+    private List<ItemBuilder> slice(final int number) {
+        if (itemsPerPage <= 0)
+            return Collections.emptyList();
+        if (prefetchedVersion != gameInventory.getLayoutVersion())
+            clearPrefetched();
+        final CompletableFuture<List<ItemBuilder>> future = prefetched.remove(number);
+        if (future != null) {
+            try {
+                final List<ItemBuilder> items = future.join();
+                prefetchHits++;
+                return items;
+            } catch (CompletionException | CancellationException e) {
+                InventoryToolKit.getInstance().getLogger().log(Level.WARNING, "Failed to prefetch page " + number + " of " + gameInventory.getName(), e.getCause());
+            }
+        }
+        if (gameInventory.isPrefetchPages() && source.isThreadSafe())
+            prefetchMisses++;
+        return source.slice(number * itemsPerPage, itemsPerPage);
+    }
+
+    /**
+     * Starts loading the pages either side of the current one on the async executor,
+     * discarding anything else left in the buffer
+     * <p>
+     * Sources that can't be sliced off of the server thread aren't prefetched, and
+     * pages loaded before the {@link GameInventory}'s layouts were invalidated are dropped
+     */
+    private void prefetch() {
+        if (prefetchedVersion != gameInventory.getLayoutVersion())
+            clearPrefetched();
+        prefetchedVersion = gameInventory.getLayoutVersion();
+        prefetched.entrySet().removeIf(entry -> {
+            if (Math.abs(entry.getKey() - page) == 1)
+                return false;
+            discard(entry.getValue());
+            return true;
+        });
+        final PageSource source = this.source;
+        if (!source.isThreadSafe())
+            return;
+        for (int number = page - 1; number <= page + 1; number += 2)
+            if (number >= 0 && number <= maxPage && !prefetched.containsKey(number) && (streaming != null || !gameInventory.hasLayout(number, search, filterKey, filterValue, sort))) {
+                final int offset = number * itemsPerPage;
+                prefetched.put(number, CompletableFuture.supplyAsync(() -> source.slice(offset, itemsPerPage), InventoryToolKit.getAsyncExecutor()));
+            }
+    }
+
+    /**
+     * Empties the prefetch buffer, for when the pages it holds are no longer valid
+     */
+    private void clearPrefetched() {
+        prefetched.values().forEach(this::discard);
+        prefetched.clear();
+    }
+
+    private void discard(final CompletableFuture<List<ItemBuilder>> future) {
+        future.cancel(false);
+        prefetchWasted++;
+    }
+
+    /**
+     * Gets the items this builder is showing, after its search, filter and sort
+     *
+     * @return a copy of the items, in page order
+     * @deprecated items are paged from a {@link PageSource}, use {@code getSource()} instead
+     */
+    @Deprecated
+    public ArrayList<ItemBuilder> getItems() {
+        return new ArrayList<>(source.slice(0, source.size()));
+    }
+
+    /**
+     * Gets the fraction of page renders that were served from the prefetch buffer
+     *
+     * @return the hit rate between 0 and 1, or 0 if nothing has been rendered with prefetching enabled
+     */
+    public double getPrefetchHitRate() {
+        final long total = prefetchHits + prefetchMisses;
+        return total == 0 ? 0 : (double) prefetchHits / total;
+    }
+
+    /**
+     * Gets the title the {@link Inventory} should have on the current page
+     *
+     * @return the name of the {@link GameInventory}, followed by the page numbers if they're shown
+     */
+    private String title() {
+        if (!gameInventory.isShowPageNumbers())
+            return gameInventory.getName();
+        return gameInventory.getName() + " " + gameInventory.getPageNumberFormat().replace("%c", page + "").replace("%m", maxPage + "");
+    }
+
+    /**
+     * Replaces the {@link Inventory} with a new one using the given title
+     * <p>
+     * This is the fallback for when the title can't be changed in place,
+     * and means the inventory has to be reopened and fully rendered again
+     *
+     * @param title the title of the new inventory
+     */
+    private void retitle(final String title) {
+        inventory = Bukkit.getServer().createInventory(gameInventory, inventory.getSize(), title);
+        Arrays.fill(rendered, null);
+    }
+
     /**
      * Searches the names of the items for the given keyword
      * <p>
@@ -143,25 +405,178 @@ public class InventoryBuilder {
      * exceptions that would occur if the current page didn't
      * exist after the search keyword changed.<br>
      * Setting the value to "" will clear the current search keyword.
+     * <p>
+     * Names starting with the keyword are listed first, then names with a word
+     * starting with it, then any other matches
      *
      * @param search the keyword to search item names for
      * @return this class for chaining
+     * @throws UnsupportedOperationException if the {@link PageSource} can't be searched
      */
     @SuppressWarnings("deprecation")
     public InventoryBuilder search(final String search) {
-        if (search.equals("")) {
-            this.search = "";
-            items = gameInventory.getItems();
-        }
         this.search = search;
-        for (ItemBuilder item : items)
-            if (!StringUtils.containsIgnoreCase(ChatColor.stripColor(item.getItemMeta().getDisplayName()), search))
-                items.remove(item);
-        maxPage = (int) Math.floor(items.size() / itemsPerPage);
+        select();
         page(0);
         return this;
     }
 
+    /**
+     * Searches the names of the items for the given keyword off of the server thread
+     * <p>
+     * Items are checked in the order of the {@link PageSource}, a chunk at a time. Page 0
+     * is rendered as soon as it can be filled, and the max page grows as more matches
+     * arrive. Starting another search, or sorting, cancels one that is still running.
+     * Unlike {@code search(String)}, matches aren't ranked, and sources that can't be
+     * searched are supported since only their slices are read. Sources that can't be
+     * sliced off of the server thread, like the {@link GameInventory}'s own items, are
+     * copied before the search starts, along with the text their {@link SearchIndex}
+     * has already normalized
+     *
+     * @param search the keyword to search item names for, or "" to clear the search
+     * @return this class for chaining
+     * @see #isSearching()
+     */
+    public InventoryBuilder searchAsync(final String search) {
+        if (search.isEmpty() || itemsPerPage <= 0)
+            return search(search);
+        this.search = search;
+        final int generation = searches.incrementAndGet();
+        final StreamingPageSource results = new StreamingPageSource();
+        final PageSource base = filtered(gameInventory.getPageSource());
+        final String query = SearchIndex.normalize(search);
+        final boolean lore = gameInventory.isSearchLore();
+        final int chunk = Math.max(SEARCH_CHUNK, itemsPerPage);
+        // Sources the server thread changes are copied here, so the search never reads them
+        final SearchIndex.Snapshot snapshot = base.isThreadSafe() ? null : snapshot(base, lore);
+        streaming = results;
+        searching = true;
+        CompletableFuture.runAsync(() -> {
+            final int size = snapshot != null ? snapshot.size() : base.size();
+            for (int offset = 0; offset < size && searches.get() == generation; offset += chunk) {
+                final List<ItemBuilder> matches = new ArrayList<>();
+                if (snapshot == null) {
+                    for (ItemBuilder item : base.slice(offset, chunk))
+                        if (SearchIndex.matches(item, query, lore))
+                            matches.add(item);
+                } else snapshot.match(offset, chunk, query, matches);
+                if (!matches.isEmpty()) {
+                    results.addAll(matches);
+                    if (deliveryScheduled.compareAndSet(false, true))
+                        InventoryToolKit.getMainThreadExecutor().execute(() -> {
+                            deliveryScheduled.set(false);
+                            deliver(generation, results, false);
+                        });
+                }
+            }
+        }, InventoryToolKit.getAsyncExecutor()).whenCompleteAsync((ignored, throwable) -> {
+            if (throwable != null)
+                InventoryToolKit.getInstance().getLogger().log(Level.WARNING, "Async search of " + gameInventory.getName() + " failed", throwable);
+            deliver(generation, results, true);
+        }, InventoryToolKit.getMainThreadExecutor());
+        return this;
+    }
+
+    /**
+     * Copies a source that isn't thread safe for an async search, reusing the
+     * normalized text of its {@link SearchIndex} if it has one
+     *
+     * @param source      the source to copy
+     * @param includeLore whether lore should be searched as well as names
+     * @return the snapshot
+     */
+    private static SearchIndex.Snapshot snapshot(final PageSource source, final boolean includeLore) {
+        if (source instanceof ListPageSource)
+            return ((ListPageSource) source).snapshot(null, includeLore);
+        if (source instanceof IndexedPageSource)
+            return ((IndexedPageSource) source).snapshot(includeLore);
+        return new SearchIndex.Snapshot(source.slice(0, source.size()), includeLore);
+    }
+
+    /**
+     * Shows the results an async search has found so far
+     *
+     * @param generation the search the results belong to
+     * @param results    the results found so far
+     * @param complete   whether the search has finished
+     */
+    @SuppressWarnings("deprecation")
+    private void deliver(final int generation, final StreamingPageSource results, final boolean complete) {
+        if (generation != searches.get())
+            return;
+        clearPrefetched();
+        if (complete)
+            searching = false;
+        if (complete && sort != null) {
+            final boolean shown = source == results;
+            source = results.sort(sort);
+            maxPage = lastPage(source.size());
+            page(shown ? Math.min(page, maxPage) : 0);
+        } else if (source != results) {
+            if (!complete && results.size() < itemsPerPage)
+                return;
+            source = results;
+            maxPage = lastPage(results.size());
+            page(0);
+        } else {
+            final int last = maxPage;
+            maxPage = lastPage(results.size());
+            if (page == last)
+                page(page);
+        }
+    }
+
+    /**
+     * Rebuilds this builder's view of the {@link GameInventory}'s items
+     * from the current search keyword, filter and sort
+     */
+    private void select() {
+        searches.incrementAndGet();
+        streaming = null;
+        searching = false;
+        clearPrefetched();
+        PageSource source = gameInventory.getPageSource();
+        if (!search.isEmpty())
+            source = source.search(search);
+        source = filtered(source);
+        if (sort != null)
+            source = source.sort(sort);
+        this.source = source;
+        this.maxPage = lastPage(source.size());
+        if (page > maxPage)
+            page = maxPage;
+    }
+
+    /**
+     * Applies the current filter, if any, to a source
+     *
+     * @param source the source to filter
+     * @return the filtered source
+     */
+    @SuppressWarnings("unchecked")
+    private PageSource filtered(final PageSource source) {
+        return filterKey == null ? source : source.filter((AttachmentKey<Object>) filterKey, filterValue);
+    }
+
+    /**
+     * Gets how many items fit on a page in the {@link GameInventory}'s current layout
+     *
+     * @return the amount of items per page
+     */
+    private int itemsPerPage() {
+        return (gameInventory.getSearchRows() * 9) - gameInventory.getTopOffset() - gameInventory.getBottomOffset();
+    }
+
+    /**
+     * Gets the last page needed to show the given amount of items
+     *
+     * @param size the amount of items
+     * @return the last page, or 0 if everything fits on one page
+     */
+    private int lastPage(final int size) {
+        return itemsPerPage > 0 && size > 0 ? (size - 1) / itemsPerPage : 0;
+    }
+
 
     /**
      * Makes a cleaner call to <code>page(int number + 1)</code>
@@ -183,6 +598,214 @@ public class InventoryBuilder {
         return this.page(this.page - 1);
     }
 
+    /**
+     * Gets the {@link ItemBuilder} that was last rendered into a slot
+     * <p>
+     * The slot table is filled as items and buttons are placed, so a click
+     * can be resolved without comparing the clicked item against every entry
+     *
+     * @param rawSlot the raw slot that was clicked
+     * @return the owning {@link ItemBuilder}, or null if the slot is empty or outside of this inventory
+     */
+    public ItemBuilder getItemAt(final int rawSlot) {
+        return rawSlot >= 0 && rawSlot < slots.length ? slots[rawSlot] : null;
+    }
+
+    /**
+     * Gets the message a {@link Player} should receive when clicking a slot they lack permission for
+     * <p>
+     * Permission decisions are resolved when an item is rendered, so this never
+     * has to consult the permission resolver on click
+     *
+     * @param rawSlot the raw slot that was clicked
+     * @return the disallow message, or null if the player may use the item in that slot
+     */
+    public String getDenialAt(final int rawSlot) {
+        return rawSlot >= 0 && rawSlot < denials.length ? denials[rawSlot] : null;
+    }
+
+    /**
+     * Clears every cached permission decision and resolves the rendered slots again
+     * <p>
+     * Call this when the {@link Player}'s permissions change while the menu is open.
+     * Decisions are also cleared automatically whenever the menu is reopened
+     */
+    public void invalidatePermissions() {
+        permissions.clear();
+        for (int slot = 0; slot < slots.length; slot++)
+            if (slots[slot] != null)
+                place(slot, slots[slot]);
+    }
+
+    /**
+     * Checks whether a slot is locked by an {@link AsyncClickEvent} that hasn't completed yet
+     *
+     * @param rawSlot the raw slot to check
+     * @return true if clicks on the slot should be ignored
+     */
+    public boolean isPending(final int rawSlot) {
+        return rawSlot >= 0 && rawSlot < locks.length && locks[rawSlot] != 0;
+    }
+
+    /**
+     * Locks a slot until {@code unlockSlot(int, int)} is called with the returned token
+     * <p>
+     * Changing the page drops every lock, so a task that completes after that
+     * can't unlock a slot that now belongs to another item or another lock
+     *
+     * @param slot        the slot to lock
+     * @param pendingItem the item to show while locked, or null to leave the slot as is
+     * @return the token to unlock the slot with, or 0 if the slot isn't in this inventory
+     */
+    protected int lockSlot(final int slot, final ItemBuilder pendingItem) {
+        if (slot < 0 || slot >= locks.length)
+            return 0;
+        if (++lockTokens == 0)
+            lockTokens = 1;
+        locks[slot] = lockTokens;
+        if (pendingItem != null)
+            push(slot, pendingItem);
+        return lockTokens;
+    }
+
+    /**
+     * Unlocks a slot and restores the item that owns it, if it's still
+     * held by the lock the token was given for
+     *
+     * @param slot  the slot to unlock
+     * @param token the token returned by {@code lockSlot(int, ItemBuilder)}
+     */
+    protected void unlockSlot(final int slot, final int token) {
+        if (slot < 0 || slot >= locks.length || token == 0 || locks[slot] != token)
+            return;
+        locks[slot] = 0;
+        place(slot, slots[slot]);
+    }
+
+    /**
+     * Sends every slot to the {@link Player} again, even ones that appear unchanged
+     * <p>
+     * Only needed if items were modified after they were rendered
+     */
+    public void refresh() {
+        Arrays.fill(rendered, null);
+        for (int slot = 0; slot < slots.length; slot++)
+            if (locks[slot] == 0)
+                push(slot, displayed(slot));
+    }
+
+    /**
+     * Records an item in the slot table along with its permission decision,
+     * without sending it to the {@link Player}
+     *
+     * @param slot        the slot to place the item in
+     * @param itemBuilder the item to place, or null to empty the slot
+     */
+    private void assign(final int slot, final ItemBuilder itemBuilder) {
+        slots[slot] = itemBuilder;
+        denials[slot] = itemBuilder != null ? resolveDenial(itemBuilder) : null;
+    }
+
+    /**
+     * Places an item into a slot and sends it to the {@link Player} if it changed
+     *
+     * @param slot        the slot to place the item in
+     * @param itemBuilder the item to place, or null to empty the slot
+     */
+    private void place(final int slot, final ItemBuilder itemBuilder) {
+        assign(slot, itemBuilder);
+        push(slot, displayed(slot));
+    }
+
+    /**
+     * Gets what should be shown in a slot
+     * <p>
+     * Items the {@link Player} can't use are shown as their locked item, if one is set
+     *
+     * @param slot the slot
+     * @return the item to display, or null if the slot is empty
+     */
+    private ItemStack displayed(final int slot) {
+        final ItemBuilder itemBuilder = slots[slot];
+        return denials[slot] != null && itemBuilder.getLockedItem() != null ? itemBuilder.getLockedItem() : itemBuilder;
+    }
+
+    /**
+     * Sets a slot of the {@link Inventory}, unless it already shows an equal item
+     * <p>
+     * Every {@code setItem} sends a slot update to the client, so the last item
+     * sent to each slot is remembered and unchanged slots are skipped
+     *
+     * @param slot      the slot to set
+     * @param itemStack the item to show, or null to empty the slot
+     */
+    private void push(final int slot, final ItemStack itemStack) {
+        final ItemStack current = rendered[slot];
+        if (current == itemStack || (current != null && current.equals(itemStack)))
+            return;
+        rendered[slot] = itemStack;
+        inventory.setItem(slot, itemStack);
+        slotUpdates++;
+    }
+
+    private String resolveDenial(final ItemBuilder itemBuilder) {
+        if (itemBuilder.requiredPermissions().isEmpty())
+            return null;
+        for (Map.Entry<String, String> entry : itemBuilder.requiredPermissions().entrySet())
+            if (!permissions.computeIfAbsent(entry.getKey(), player::hasPermission))
+                return entry.getValue();
+        return null;
+    }
+
+    /**
+     * Checks whether the {@link Player} currently has this builder's {@link Inventory} open
+     *
+     * @return true if the player is viewing this inventory
+     */
+    public boolean isViewing() {
+        return inventory.equals(player.getOpenInventory().getTopInventory());
+    }
+
+    /**
+     * Marks this builder as recently used by its {@link Player}
+     */
+    protected void touch() {
+        lastAccess = System.currentTimeMillis();
+    }
+
+    /**
+     * Gets the amount of items this builder keeps a reference to
+     *
+     * @return the amount of sorted or searched items and rendered slots held
+     */
+    public int getRetainedItems() {
+        final int view = source != gameInventory.getPageSource() && (source instanceof ListPageSource || source instanceof StreamingPageSource) ? source.size() : 0;
+        return view + slots.length + rendered.length;
+    }
+
+    /**
+     * Moves the given amount of pages and reopens the inventory on the next tick
+     * <p>
+     * Flips requested within the same tick are coalesced, so ten "Next Page"
+     * clicks result in a single render ten pages ahead. The target page is
+     * clamped between 0 and the max page
+     *
+     * @param pages the amount of pages to move, negative to move backwards
+     */
+    public void flipPage(final int pages) {
+        queuedPages += pages;
+        if (flipScheduled)
+            return;
+        flipScheduled = true;
+        Bukkit.getScheduler().runTask(InventoryToolKit.getInstance(), () -> {
+            final int target = Math.max(0, Math.min(maxPage, page + queuedPages));
+            queuedPages = 0;
+            flipScheduled = false;
+            if (target != page && isViewing())
+                open(target);
+        });
+    }
+
     /**
      * Opens this {@link GameInventory} for the current {@link Player}
      * <p>
@@ -192,10 +815,12 @@ public class InventoryBuilder {
      */
     @SuppressWarnings("deprecation")
     public void open(final int page) {
+        if (!isViewing())
+            permissions.clear();
         page(page);
-        gameInventory.getButtons().forEach((slot, itemBuilder) -> gameInventory.getInventory().setItem(slot, itemBuilder));
-        player.openInventory(this.gameInventory.getInventory());
-        InventoryToolKit.getInventoryUsers().put(player, this);
+        if (!isViewing())
+            player.openInventory(inventory);
+        InventoryToolKit.getSessions().put(player, this);
     }
 
     /**
@@ -0,0 +1,23 @@
+package com.gamerbah.inventorytoolkit;
+/* Created by GamerBah on 10/17/2026 */
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+public class InventorySessionListener implements Listener {
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onClose(InventoryCloseEvent event) {
+        if (event.getInventory().getHolder() instanceof GameInventory)
+            InventoryToolKit.getSessions().close(event.getPlayer().getUniqueId(), event.getInventory());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        InventoryToolKit.getSessions().remove(event.getPlayer().getUniqueId());
+    }
+
+}
@@ -2,26 +2,184 @@ package com.gamerbah.inventorytoolkit;
 /* Created by GamerBah on 3/11/2018 */
 
 import lombok.Getter;
+import lombok.Setter;
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 
-import java.util.HashMap;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
 
 public class InventoryToolKit extends JavaPlugin {
 
     @Getter
-    private static final HashMap<Player, InventoryBuilder> inventoryUsers = new HashMap<>();
-
+    private static final SessionRegistry sessions = new SessionRegistry();
     @Getter
     private static InventoryToolKit instance = null;
     @Getter
+    private static final Executor mainThreadExecutor = runnable -> Bukkit.getScheduler().runTask(instance, runnable);
+    @Getter
     private static Metrics metrics = null;
+    @Getter
+    private static Executor asyncExecutor = null;
+    @Getter
+    private static int clickBurst = 5;
+    @Getter
+    private static double clickRate = 10;
+    @Getter
+    @Setter
+    private static int parallelSortThreshold = 50_000;
+
+    private ExecutorService defaultExecutor = null;
+
+    /**
+     * Gets the {@link InventoryBuilder} each {@link Player} is viewing
+     *
+     * @return a view of the sessions, keyed by {@link Player}
+     * @deprecated sessions are kept by {@link SessionRegistry}, use {@code getSessions()} instead
+     */
+    @Deprecated
+    public static Map<Player, InventoryBuilder> getInventoryUsers() {
+        return sessions.asPlayerMap();
+    }
 
     public void onEnable() {
         instance = this;
         if (getConfig().getBoolean("useMetrics"))
             metrics = new Metrics(this);
+        ClickTimings.setEnabled(getConfig().getBoolean("clickTimings", false));
+        final int burst = getConfig().getInt("clickBurst", clickBurst);
+        if (burst < 1)
+            getLogger().warning("clickBurst must be at least 1, using 1 instead of " + burst);
+        clickBurst = Math.max(1, burst);
+        final double rate = getConfig().getDouble("clickRate", clickRate);
+        if (!(rate > 0))
+            getLogger().warning("clickRate must be above 0, using 10 instead of " + rate);
+        clickRate = rate > 0 ? rate : 10;
+        parallelSortThreshold = getConfig().getInt("parallelSortThreshold", parallelSortThreshold);
+        SkullCache.setCapacity(Math.max(0, getConfig().getInt("skullCacheSize", SkullCache.getCapacity())));
+        if (asyncExecutor == null) {
+            defaultExecutor = createDefaultExecutor(getConfig().getBoolean("useVirtualThreads", true));
+            asyncExecutor = defaultExecutor;
+        }
         getServer().getPluginManager().registerEvents(new InventoryClickListener(), this);
+        getServer().getPluginManager().registerEvents(new InventorySessionListener(), this);
+
+        final long idleTimeout = TimeUnit.SECONDS.toMillis(getConfig().getLong("sessionIdleTimeout", 300));
+        final long sweepTicks = Math.max(20, Math.min(idleTimeout / 50, 20 * 60));
+        getServer().getScheduler().runTaskTimer(this, () -> sessions.sweep(idleTimeout), sweepTicks, sweepTicks);
+    }
+
+    public void onDisable() {
+        if (defaultExecutor != null) {
+            defaultExecutor.shutdown();
+            if (asyncExecutor == defaultExecutor)
+                asyncExecutor = null;
+            defaultExecutor = null;
+        }
+    }
+
+    @Override
+    public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
+        if (args.length == 0 || !args[0].equalsIgnoreCase("timings"))
+            return false;
+        switch (args.length > 1 ? args[1].toLowerCase() : "dump") {
+            case "on":
+                ClickTimings.setEnabled(true);
+                sender.sendMessage(ChatColor.GREEN + "Click timings enabled");
+                return true;
+            case "off":
+                ClickTimings.setEnabled(false);
+                sender.sendMessage(ChatColor.GREEN + "Click timings disabled");
+                return true;
+            case "reset":
+                ClickTimings.reset();
+                sender.sendMessage(ChatColor.GREEN + "Click timings reset");
+                return true;
+            case "dump":
+                final List<String> lines = ClickTimings.summarize();
+                if (lines.isEmpty())
+                    sender.sendMessage(ChatColor.GRAY + "No click timings have been recorded"
+                            + (ClickTimings.isEnabled() ? "" : " (timings are disabled)"));
+                lines.forEach(line -> sender.sendMessage(ChatColor.GRAY + line));
+                return true;
+            case "save":
+                final File file = new File(getDataFolder(), "timings.json");
+                try {
+                    ClickTimings.save(file);
+                    sender.sendMessage(ChatColor.GREEN + "Click timings saved to " + file.getPath());
+                } catch (IOException e) {
+                    getLogger().log(Level.WARNING, "Failed to save click timings", e);
+                    sender.sendMessage(ChatColor.RED + "Failed to save click timings, check the console");
+                }
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Sets the most clicks a player can make in a burst, for menus opened from now on
+     *
+     * @param clickBurst the burst size
+     * @throws IllegalArgumentException if the burst is below 1
+     */
+    public static void setClickBurst(final int clickBurst) {
+        if (clickBurst < 1)
+            throw new IllegalArgumentException("clickBurst must be at least 1");
+        InventoryToolKit.clickBurst = clickBurst;
+    }
+
+    /**
+     * Sets how many clicks a player regains every second, for menus opened from now on
+     *
+     * @param clickRate the refill rate
+     * @throws IllegalArgumentException if the rate isn't above 0
+     */
+    public static void setClickRate(final double clickRate) {
+        if (!(clickRate > 0))
+            throw new IllegalArgumentException("clickRate must be above 0");
+        InventoryToolKit.clickRate = clickRate;
+    }
+
+    /**
+     * Sets the {@link Executor} that {@link AsyncClickEvent} tasks are ran on
+     * <p>
+     * By default a virtual-thread executor is used when the runtime supports it,
+     * otherwise a cached pool of daemon threads
+     *
+     * @param executor the {@link Executor} to use
+     */
+    public static void setAsyncExecutor(final Executor executor) {
+        asyncExecutor = Objects.requireNonNull(executor, "executor cannot be null");
+    }
+
+    private static ExecutorService createDefaultExecutor(final boolean virtualThreads) {
+        if (virtualThreads) {
+            try {
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException ignored) {
+                // Virtual threads aren't available on this runtime
+            }
+        }
+        final AtomicInteger count = new AtomicInteger();
+        return Executors.newCachedThreadPool(runnable -> {
+            final Thread thread = new Thread(runnable, "InventoryToolkit Async #" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
 }
@@ -1,15 +1,12 @@
 package com.gamerbah.inventorytoolkit;
 
-import com.google.common.base.Charsets;
-import com.mojang.authlib.GameProfile;
-import com.mojang.authlib.properties.Property;
-import com.mojang.authlib.properties.PropertyMap;
 import lombok.Getter;
 import org.bukkit.ChatColor;
 import org.bukkit.Color;
 import org.bukkit.Material;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.enchantments.Enchantment;
+import org.bukkit.event.inventory.ClickType;
 import org.bukkit.inventory.ItemFlag;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
@@ -17,7 +14,8 @@ import org.bukkit.inventory.meta.LeatherArmorMeta;
 import org.bukkit.inventory.meta.SkullMeta;
 import org.bukkit.material.MaterialData;
 
-import java.lang.reflect.Field;
+import java.text.CollationKey;
+import java.text.Collator;
 import java.util.*;
 
 /**
@@ -28,12 +26,23 @@ import java.util.*;
  */
 public class ItemBuilder extends ItemStack {
 
+    private Set<ClickEvent> clickEvents = Collections.emptySet();
+    private Object[] attachments;
+    private HashMap<Class, Object> storedObjects, storedObjectsView;
+    private Map<String, String> requiredPermissions = Collections.emptyMap();
+    private boolean clickEventsShared = true, requiredPermissionsShared = true;
+    private HashSet<ClickEvent> clickEventsView;
+    private HashMap<String, String> requiredPermissionsView;
+
     @Getter
-    private HashSet<ClickEvent> clickEvents = new HashSet<>();
-    @Getter
-    private HashMap<Class, Object> storedObjects = new HashMap<>();
-    @Getter
-    private HashMap<String, String> requiredPermissions = new HashMap<>();
+    private ItemBuilder lockedItem;
+
+    private ClickEvent[][] clickHandlers;
+    private CollationKey nameKey;
+    private Collator nameKeyCollator;
+    private ItemMeta pendingMeta;
+    private ItemTemplate metaSource;
+    private boolean deferred;
 
     /**
      * Constructs a new ItemBuilder from a Material
@@ -55,6 +64,11 @@ public class ItemBuilder extends ItemStack {
 
     /**
      * Constructs a new ItemBuilder from an already existing ItemBuilder
+     * <p>
+     * Click events, attachments and permissions are shared with the original
+     * until either of them changes, and the meta of an {@link ItemTemplate} is
+     * only copied once it's needed, so copying is cheap. Changes a
+     * {@code deferred()} original hasn't built yet are copied too
      *
      * @param itemBuilder
      */
@@ -62,11 +76,21 @@ public class ItemBuilder extends ItemStack {
         setType(itemBuilder.getType());
         setData(itemBuilder.getData());
         setAmount(itemBuilder.getAmount());
-        setItemMeta(itemBuilder.getItemMeta());
         setDurability(itemBuilder.getDurability());
-        for (ClickEvent clickEvent : itemBuilder.clickEvents)
-            onClick(clickEvent);
-        storedObjects.putAll(itemBuilder.getStoredObjects());
+        if (itemBuilder instanceof ItemTemplate) {
+            metaSource = (ItemTemplate) itemBuilder;
+        } else if (itemBuilder.metaSource != null) {
+            metaSource = itemBuilder.metaSource;
+        } else setItemMeta(itemBuilder.getItemMeta());
+        if (itemBuilder.pendingMeta != null)
+            pendingMeta = itemBuilder.pendingMeta.clone();
+        deferred = itemBuilder.deferred;
+        clickEvents = itemBuilder.clickEvents;
+        clickHandlers = itemBuilder.clickHandlers;
+        attachments = itemBuilder.attachments;
+        requiredPermissions = itemBuilder.requiredPermissions;
+        itemBuilder.clickEventsShared = itemBuilder.requiredPermissionsShared = true;
+        lockedItem = itemBuilder.getLockedItem();
     }
 
     /**
@@ -87,14 +111,172 @@ public class ItemBuilder extends ItemStack {
      * @return the current instance, for chaining
      */
     public ItemBuilder name(final String name) {
-        final ItemMeta meta = getItemMeta();
-        if (meta != null) {
+        final ItemMeta meta = meta();
+        if (meta != null)
             meta.setDisplayName(name);
-            setItemMeta(meta);
+        return changed();
+    }
+
+    /**
+     * Gets the collation key of this ItemBuilder's display name, without colors
+     * <p>
+     * The key is cached until the meta changes, so sorting by name doesn't have to
+     * clone the meta on every comparison
+     *
+     * @param collator the {@link Collator} to create the key with
+     * @return the key, which is for an empty name if there is no display name
+     * @see KeyedComparator#byName()
+     */
+    public CollationKey getNameKey(final Collator collator) {
+        if (nameKey == null || nameKeyCollator != collator) {
+            final ItemMeta meta = getItemMeta();
+            nameKey = collator.getCollationKey(meta != null && meta.hasDisplayName() ? ChatColor.stripColor(meta.getDisplayName()) : "");
+            nameKeyCollator = collator;
+        }
+        return nameKey;
+    }
+
+    /**
+     * Gets the meta that chain calls write to, cloning it from the stack on the first call
+     * <p>
+     * Chain calls hand it to {@code changed()}, which applies it right away unless this
+     * ItemBuilder is {@code deferred()}
+     *
+     * @return the pending meta, or null if the material can't have meta
+     */
+    private ItemMeta meta() {
+        nameKey = null;
+        if (pendingMeta == null)
+            pendingMeta = getItemMeta();
+        return pendingMeta;
+    }
+
+    private ItemBuilder changed() {
+        return deferred ? this : build();
+    }
+
+    /**
+     * Copies the meta of the {@link ItemTemplate} this was copied from into the stack,
+     * before something other than a chain call writes to it
+     */
+    private void materialize() {
+        if (metaSource != null) {
+            final ItemTemplate source = metaSource;
+            metaSource = null;
+            super.setItemMeta(source.getItemMeta());
         }
+    }
+
+    /**
+     * Makes chain calls that change the meta collect their changes until {@code build()}
+     * is called, instead of applying each one to the stack
+     * <p>
+     * A long chain then clones the meta twice instead of twice per call. Until it's built,
+     * the item looks like it did before the chain to everything that reads it, menus included
+     *
+     * @return the current instance, for chaining
+     * @see #build()
+     */
+    public ItemBuilder deferred() {
+        deferred = true;
         return this;
     }
 
+    /**
+     * Applies the changes collected by chain calls since this ItemBuilder was made
+     * {@code deferred()}, and goes back to applying each change right away
+     *
+     * @return the current instance, for chaining
+     */
+    public ItemBuilder build() {
+        deferred = false;
+        if (pendingMeta != null) {
+            final ItemMeta meta = pendingMeta;
+            pendingMeta = null;
+            metaSource = null;
+            // The key may have been read from the stack since the meta was changed
+            nameKey = null;
+            super.setItemMeta(meta);
+        }
+        return this;
+    }
+
+    @Override
+    public ItemMeta getItemMeta() {
+        return metaSource != null ? metaSource.getItemMeta() : super.getItemMeta();
+    }
+
+    @Override
+    public boolean hasItemMeta() {
+        return metaSource != null ? metaSource.hasItemMeta() : super.hasItemMeta();
+    }
+
+    @Override
+    public boolean setItemMeta(final ItemMeta itemMeta) {
+        nameKey = null;
+        pendingMeta = null;
+        metaSource = null;
+        return super.setItemMeta(itemMeta);
+    }
+
+    @Override
+    public void setType(final Material type) {
+        materialize();
+        super.setType(type);
+    }
+
+    @Override
+    @Deprecated
+    public void setTypeId(final int type) {
+        materialize();
+        super.setTypeId(type);
+    }
+
+    @Override
+    public Map<Enchantment, Integer> getEnchantments() {
+        return metaSource != null ? metaSource.getEnchantments() : super.getEnchantments();
+    }
+
+    @Override
+    public boolean containsEnchantment(final Enchantment ench) {
+        return metaSource != null ? metaSource.containsEnchantment(ench) : super.containsEnchantment(ench);
+    }
+
+    @Override
+    public int getEnchantmentLevel(final Enchantment ench) {
+        return metaSource != null ? metaSource.getEnchantmentLevel(ench) : super.getEnchantmentLevel(ench);
+    }
+
+    @Override
+    public void addEnchantment(final Enchantment ench, final int level) {
+        materialize();
+        super.addEnchantment(ench, level);
+    }
+
+    @Override
+    public void addEnchantments(final Map<Enchantment, Integer> enchantments) {
+        materialize();
+        super.addEnchantments(enchantments);
+    }
+
+    @Override
+    public void addUnsafeEnchantment(final Enchantment ench, final int level) {
+        materialize();
+        super.addUnsafeEnchantment(ench, level);
+    }
+
+    @Override
+    public void addUnsafeEnchantments(final Map<Enchantment, Integer> enchantments) {
+        materialize();
+        super.addUnsafeEnchantments(enchantments);
+    }
+
+    @Override
+    public int removeEnchantment(final Enchantment ench) {
+        materialize();
+        return super.removeEnchantment(ench);
+    }
+
     /**
      * Adds a new line of lore to the ItemBuilder
      *
@@ -102,15 +284,14 @@ public class ItemBuilder extends ItemStack {
      * @return the current instance, for chaining
      */
     public ItemBuilder lore(final String text) {
-        final ItemMeta meta = getItemMeta();
+        final ItemMeta meta = meta();
         if (meta != null) {
             List<String> lore = (meta.getLore() != null ? meta.getLore() : new ArrayList<>());
             String[] split = text.split("\n");
             lore.addAll(Arrays.asList(split));
             meta.setLore(lore);
-            setItemMeta(meta);
         }
-        return this;
+        return changed();
     }
 
     /**
@@ -138,8 +319,8 @@ public class ItemBuilder extends ItemStack {
      * @return the current instance, for chaining
      */
     public ItemBuilder enchantment(final Enchantment enchantment, final int level) {
-        addUnsafeEnchantment(enchantment, level);
-        return this;
+        meta().addEnchant(enchantment, level, true);
+        return changed();
     }
 
     /**
@@ -149,8 +330,7 @@ public class ItemBuilder extends ItemStack {
      * @return the current instance, for chaining
      */
     public ItemBuilder enchantment(final Enchantment enchantment) {
-        addUnsafeEnchantment(enchantment, 1);
-        return this;
+        return enchantment(enchantment, 1);
     }
 
     /**
@@ -170,10 +350,8 @@ public class ItemBuilder extends ItemStack {
      * @return the current instance, for chaining
      */
     public ItemBuilder clearLore() {
-        final ItemMeta meta = getItemMeta();
-        meta.setLore(new ArrayList<>());
-        setItemMeta(meta);
-        return this;
+        meta().setLore(new ArrayList<>());
+        return changed();
     }
 
     /**
@@ -182,8 +360,10 @@ public class ItemBuilder extends ItemStack {
      * @return the current instance, for chaining
      */
     public ItemBuilder clearEnchantments() {
-        getEnchantments().keySet().forEach(this::removeEnchantment);
-        return this;
+        final ItemMeta meta = meta();
+        if (meta != null)
+            meta.getEnchants().keySet().forEach(meta::removeEnchant);
+        return changed();
     }
 
     /**
@@ -195,10 +375,9 @@ public class ItemBuilder extends ItemStack {
     public ItemBuilder color(final Color color) {
         if (getType() == Material.LEATHER_BOOTS || getType() == Material.LEATHER_CHESTPLATE || getType() == Material.LEATHER_HELMET
                 || getType() == Material.LEATHER_LEGGINGS) {
-            LeatherArmorMeta meta = (LeatherArmorMeta) getItemMeta();
+            LeatherArmorMeta meta = (LeatherArmorMeta) meta();
             meta.setColor(color);
-            setItemMeta(meta);
-            return this;
+            return changed();
         } else {
             throw new IllegalArgumentException("color is only applicable for leather armor");
         }
@@ -211,10 +390,8 @@ public class ItemBuilder extends ItemStack {
      * @return the current instance, for chaining
      */
     public ItemBuilder flag(final ItemFlag flag) {
-        final ItemMeta meta = getItemMeta();
-        meta.addItemFlags(flag);
-        setItemMeta(meta);
-        return this;
+        meta().addItemFlags(flag);
+        return changed();
     }
 
     /**
@@ -223,10 +400,9 @@ public class ItemBuilder extends ItemStack {
      * @return the current instance, for chaining
      */
     public ItemBuilder clearFlags() {
-        final ItemMeta meta = getItemMeta();
+        final ItemMeta meta = meta();
         meta.getItemFlags().forEach(meta::removeItemFlags);
-        setItemMeta(meta);
-        return this;
+        return changed();
     }
 
     /**
@@ -235,10 +411,8 @@ public class ItemBuilder extends ItemStack {
      * @return the current instance, for chaining
      */
     public ItemBuilder unbreakable() {
-        final ItemMeta meta = getItemMeta();
-        meta.setUnbreakable(true);
-        setItemMeta(meta);
-        return this;
+        meta().setUnbreakable(true);
+        return changed();
     }
 
     /**
@@ -250,10 +424,203 @@ public class ItemBuilder extends ItemStack {
      * @see ClickEvent
      */
     public ItemBuilder onClick(final ClickEvent event) {
-        getClickEvents().add(event);
+        ownClickEvents().add(event);
+        clickHandlers = null;
         return this;
     }
 
+    /**
+     * Gets the click events of this ItemBuilder, copying them first if they're shared with another copy
+     *
+     * @return the click events, which this ItemBuilder alone may modify
+     */
+    Set<ClickEvent> ownClickEvents() {
+        if (clickEventsShared) {
+            clickEvents = new HashSet<>(clickEvents);
+            clickEventsShared = false;
+        }
+        return clickEvents;
+    }
+
+    /**
+     * Gets the click events of this ItemBuilder
+     * <p>
+     * Click events are shared between copies until either of them changes, so this
+     * is a view rather than the set itself. Changes made through it apply to this
+     * ItemBuilder only, just like {@code onClick(ClickEvent)}
+     *
+     * @return a modifiable view of the click events
+     */
+    public HashSet<ClickEvent> getClickEvents() {
+        if (clickEventsView == null)
+            clickEventsView = new WriteThroughSet<ClickEvent>() {
+                @Override
+                Set<ClickEvent> set() {
+                    return clickEvents;
+                }
+
+                @Override
+                void insert(final ClickEvent element) {
+                    onClick(element);
+                }
+
+                @Override
+                void delete(final Object element) {
+                    ownClickEvents().remove(element);
+                    clickHandlers = null;
+                }
+            };
+        return clickEventsView;
+    }
+
+    /**
+     * Gets the objects stored in this ItemBuilder with {@code storeObject(Class, Object)}
+     * <p>
+     * Objects are kept as attachments, so this is a view of them. Changes made through it
+     * are stored with {@code storeObject(Class, Object)}, and putting null removes an object
+     *
+     * @return a modifiable view of the stored objects, by class
+     */
+    public HashMap<Class, Object> getStoredObjects() {
+        if (storedObjectsView == null)
+            storedObjectsView = new WriteThroughMap<Class, Object>() {
+                @Override
+                Map<Class, Object> map() {
+                    return storedObjects();
+                }
+
+                @Override
+                void write(final Class key, final Object value) {
+                    storeObject(key, value);
+                }
+
+                @Override
+                void delete(final Object key) {
+                    storeObject((Class) key, null);
+                }
+            };
+        return storedObjectsView;
+    }
+
+    /**
+     * Gets the objects stored by class, made the first time they're needed and
+     * kept until another object is stored or removed
+     *
+     * @return the stored objects, which must not be modified
+     */
+    private Map<Class, Object> storedObjects() {
+        HashMap<Class, Object> storedObjects = this.storedObjects;
+        if (storedObjects == null) {
+            storedObjects = new HashMap<>();
+            final Object[] attachments = this.attachments;
+            if (attachments != null)
+                for (int i = 0; i < attachments.length; i += 2)
+                    if (((AttachmentKey<?>) attachments[i]).isClassKey())
+                        storedObjects.put(((AttachmentKey<?>) attachments[i]).getType(), attachments[i + 1]);
+            this.storedObjects = storedObjects;
+        }
+        return storedObjects;
+    }
+
+    /**
+     * Gets the value attached to this ItemBuilder under a key
+     *
+     * @param key the key
+     * @param <T> the type of the value
+     * @return the value, or null if nothing is attached under the key
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getAttachment(final AttachmentKey<T> key) {
+        final Object[] attachments = this.attachments;
+        if (attachments != null)
+            for (int i = 0; i < attachments.length; i += 2)
+                if (attachments[i] == key)
+                    return (T) attachments[i + 1];
+        return null;
+    }
+
+    /**
+     * Checks whether a value is attached to this ItemBuilder under a key
+     *
+     * @param key the key
+     * @return true if a value is attached
+     */
+    public boolean hasAttachment(final AttachmentKey<?> key) {
+        return getAttachment(key) != null;
+    }
+
+    /**
+     * Gets the permissions required to click on this item
+     * <p>
+     * Permissions are shared between copies until either of them changes, so this
+     * is a view rather than the map itself. Changes made through it apply to this
+     * ItemBuilder only, just like {@code addPermission(String, String)}
+     *
+     * @return a modifiable view of the disallow messages, by permission node
+     */
+    public HashMap<String, String> getRequiredPermissions() {
+        if (requiredPermissionsView == null)
+            requiredPermissionsView = new WriteThroughMap<String, String>() {
+                @Override
+                Map<String, String> map() {
+                    return requiredPermissions;
+                }
+
+                @Override
+                void write(final String key, final String value) {
+                    ownRequiredPermissions().put(key, value);
+                }
+
+                @Override
+                void delete(final Object key) {
+                    ownRequiredPermissions().remove(key);
+                }
+            };
+        return requiredPermissionsView;
+    }
+
+    /**
+     * Gets the required permissions of this ItemBuilder, copying them first if they're shared with another copy
+     *
+     * @return the disallow messages, by permission node, which this ItemBuilder alone may modify
+     */
+    Map<String, String> ownRequiredPermissions() {
+        if (requiredPermissionsShared) {
+            requiredPermissions = new HashMap<>(requiredPermissions);
+            requiredPermissionsShared = false;
+        }
+        return requiredPermissions;
+    }
+
+    /**
+     * Gets the permissions required to click on this item, without copying them
+     *
+     * @return the disallow messages, by permission node, which must not be modified
+     */
+    Map<String, String> requiredPermissions() {
+        return requiredPermissions;
+    }
+
+    /**
+     * Gets the click events that should run for the given {@link ClickType}
+     * <p>
+     * Handlers are compiled into a table indexed by click type the first time
+     * they're needed, and only recompiled after another {@link ClickEvent} is added
+     *
+     * @param clickType the {@link ClickType} of the click
+     * @return the matching click events, never null
+     */
+    public ClickEvent[] getClickHandlers(final ClickType clickType) {
+        if (clickHandlers == null) {
+            final ClickType[] types = ClickType.values();
+            final ClickEvent[][] handlers = new ClickEvent[types.length][];
+            for (ClickType type : types)
+                handlers[type.ordinal()] = clickEvents.stream().filter(event -> event.matches(type)).toArray(ClickEvent[]::new);
+            clickHandlers = handlers;
+        }
+        return clickHandlers[clickType.ordinal()];
+    }
+
     /**
      * Allows the ItemBuilder to store an object for use in sorting or data-retention
      * <p>
@@ -264,8 +631,55 @@ public class ItemBuilder extends ItemStack {
      * @param object the object to store
      * @return this class for chaining
      */
+    @SuppressWarnings("unchecked")
     public ItemBuilder storeObject(final Class clazz, final Object object) {
-        this.storedObjects.put(clazz, object);
+        return attach(AttachmentKey.of(clazz), object);
+    }
+
+    /**
+     * Attaches a value to this ItemBuilder for use in sorting, filtering or data-retention
+     * <p>
+     * Attachments are kept in a small array that is replaced rather than modified,
+     * so copies of this ItemBuilder can share it, and an ItemBuilder without
+     * attachments holds no storage at all
+     *
+     * @param key   the key to attach the value under
+     * @param value the value, or null to remove the attachment
+     * @param <T>   the type of the value
+     * @return this class for chaining
+     * @see KeyedComparator#byAttachment(AttachmentKey)
+     * @see PageSource#filter(AttachmentKey, Object)
+     */
+    public <T> ItemBuilder attach(final AttachmentKey<T> key, final T value) {
+        Objects.requireNonNull(key, "key cannot be null");
+        final Object[] attachments = this.attachments;
+        int index = -1;
+        if (attachments != null)
+            for (int i = 0; i < attachments.length; i += 2)
+                if (attachments[i] == key)
+                    index = i;
+        if (index == -1) {
+            if (value == null)
+                return this;
+            final Object[] attached = attachments == null ? new Object[2] : Arrays.copyOf(attachments, attachments.length + 2);
+            attached[attached.length - 2] = key;
+            attached[attached.length - 1] = value;
+            this.attachments = attached;
+        } else if (value == null) {
+            if (attachments.length == 2) {
+                this.attachments = null;
+            } else {
+                final Object[] attached = new Object[attachments.length - 2];
+                System.arraycopy(attachments, 0, attached, 0, index);
+                System.arraycopy(attachments, index + 2, attached, index, attachments.length - index - 2);
+                this.attachments = attached;
+            }
+        } else {
+            final Object[] attached = attachments.clone();
+            attached[index + 1] = value;
+            this.attachments = attached;
+        }
+        storedObjects = null;
         return this;
     }
 
@@ -277,8 +691,9 @@ public class ItemBuilder extends ItemStack {
      * @return this class for chaining
      */
     public ItemBuilder addPermission(final String permission, final String message) {
-        this.requiredPermissions.put(Objects.requireNonNull(permission, "permission cannot be null"),
-                Objects.requireNonNull(message, "message cannot be null"));
+        Objects.requireNonNull(permission, "permission cannot be null");
+        Objects.requireNonNull(message, "message cannot be null");
+        ownRequiredPermissions().put(permission, message);
         return this;
     }
 
@@ -292,8 +707,21 @@ public class ItemBuilder extends ItemStack {
      * @return this class for chaining
      */
     public ItemBuilder addPermission(final String permission) {
-        this.requiredPermissions.put(Objects.requireNonNull(permission, "permission cannot be null"),
-                ChatColor.RED + "You don't have permission to use that!");
+        return addPermission(permission, ChatColor.RED + "You don't have permission to use that!");
+    }
+
+    /**
+     * Sets the item displayed in place of this one for players that are
+     * missing any of its required permissions
+     * <p>
+     * Clicking the locked item still sends this item's disallow message
+     * </p>
+     *
+     * @param lockedItem the item to display while locked, or null to display this item
+     * @return this class for chaining
+     */
+    public ItemBuilder lockedItem(final ItemBuilder lockedItem) {
+        this.lockedItem = lockedItem;
         return this;
     }
 
@@ -307,24 +735,42 @@ public class ItemBuilder extends ItemStack {
         return new ItemBuilder(this);
     }
 
+    /**
+     * Gets an ItemBuilder that can be kept in place of this one
+     * <p>
+     * This is a copy, unless this is an {@link ItemTemplate}, which can't change
+     * and is shared as is
+     *
+     * @return the ItemBuilder to keep
+     */
+    public ItemBuilder share() {
+        return clone();
+    }
+
+    /**
+     * Freezes the current state of this ItemBuilder into a template that can be shared
+     * <p>
+     * This ItemBuilder is left as is and can still be modified
+     *
+     * @return the template
+     * @see ItemTemplate
+     */
+    public ItemTemplate freeze() {
+        return new ItemTemplate(this);
+    }
+
     /**
      * Gets a skull item that has a custom texture
+     * <p>
+     * The skull of each URL is made once and cached by {@link SkullCache}, so
+     * this only copies it on later calls
      *
      * @param url the url for the texture
      * @return this class for chaining
      * @throws Exception if the texture failed to resolve
      */
     public static ItemBuilder customSkull(final String url) throws Exception {
-        ItemStack item = new ItemStack(Material.SKULL_ITEM, 1, (byte) 3);
-        ItemMeta meta = item.getItemMeta();
-        GameProfile profile = new GameProfile(UUID.randomUUID(), null);
-        PropertyMap propertyMap = profile.getProperties();
-        propertyMap.put("textures", new Property("textures", new String(Base64.getEncoder().encode(("{\"textures\":{\"SKIN\":{\"url\":\"" + url + "\"}}}").getBytes()), Charsets.UTF_8)));
-        Field f = meta.getClass().getDeclaredField("profile");
-        f.setAccessible(true);
-        f.set(meta, profile);
-        item.setItemMeta(meta);
-        return new ItemBuilder(item);
+        return new ItemBuilder(SkullCache.get(url));
     }
 
     /**
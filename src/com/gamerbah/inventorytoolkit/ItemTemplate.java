@@ -0,0 +1,278 @@
+package com.gamerbah.inventorytoolkit;
+/* Created by GamerBah on 10/17/2026 */
+
+import org.bukkit.Color;
+import org.bukkit.Material;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.inventory.ItemFlag;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.material.MaterialData;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * An {@link ItemBuilder} that can no longer be modified, so it can be shared by every menu and viewer
+ * <p>
+ * Names and lore are interned and the meta is applied when the template is created.
+ * {@code share()} returns the template itself, so adding it to any number of
+ * {@link GameInventory}s never copies it, while {@code clone()} still makes a
+ * modifiable copy. Use {@code overlay(Consumer)} for per-viewer variations
+ */
+public class ItemTemplate extends ItemBuilder {
+
+    private final boolean frozen;
+
+    /**
+     * Creates a new template from the current state of an {@link ItemBuilder}
+     *
+     * @param itemBuilder the {@link ItemBuilder} to freeze
+     * @see ItemBuilder#freeze()
+     */
+    public ItemTemplate(final ItemBuilder itemBuilder) {
+        super(itemBuilder);
+        build();
+        final ItemMeta meta = getItemMeta();
+        if (meta != null) {
+            if (meta.hasDisplayName())
+                meta.setDisplayName(meta.getDisplayName().intern());
+            if (meta.hasLore()) {
+                final List<String> lore = new ArrayList<>();
+                for (String line : meta.getLore())
+                    lore.add(line.intern());
+                meta.setLore(lore);
+            }
+            setItemMeta(meta);
+        }
+        this.frozen = true;
+    }
+
+    /**
+     * Creates a modifiable copy of this template with some changes applied
+     *
+     * @param changes the changes to make to the copy
+     * @return the copy
+     */
+    public ItemBuilder overlay(final Consumer<ItemBuilder> changes) {
+        final ItemBuilder itemBuilder = new ItemBuilder(this);
+        changes.accept(itemBuilder);
+        return itemBuilder;
+    }
+
+    @Override
+    public ItemTemplate freeze() {
+        return this;
+    }
+
+    /**
+     * Gets this template, as it can be shared instead of copied
+     *
+     * @return this template
+     */
+    @Override
+    public ItemBuilder share() {
+        return this;
+    }
+
+    private void checkMutable() {
+        if (frozen)
+            throw new UnsupportedOperationException("ItemTemplates can't be modified, use overlay() or new ItemBuilder(template) instead");
+    }
+
+    @Override
+    public ItemBuilder deferred() {
+        checkMutable();
+        return super.deferred();
+    }
+
+    @Override
+    public ItemBuilder amount(final int amount) {
+        checkMutable();
+        return super.amount(amount);
+    }
+
+    @Override
+    public ItemBuilder name(final String name) {
+        checkMutable();
+        return super.name(name);
+    }
+
+    @Override
+    public ItemBuilder lore(final String text) {
+        checkMutable();
+        return super.lore(text);
+    }
+
+    @Override
+    public ItemBuilder durability(final int durability) {
+        checkMutable();
+        return super.durability(durability);
+    }
+
+    @Override
+    public ItemBuilder data(final int data) {
+        checkMutable();
+        return super.data(data);
+    }
+
+    @Override
+    public ItemBuilder enchantment(final Enchantment enchantment, final int level) {
+        checkMutable();
+        return super.enchantment(enchantment, level);
+    }
+
+    @Override
+    public ItemBuilder type(final Material material) {
+        checkMutable();
+        return super.type(material);
+    }
+
+    @Override
+    public ItemBuilder clearLore() {
+        checkMutable();
+        return super.clearLore();
+    }
+
+    @Override
+    public ItemBuilder clearEnchantments() {
+        checkMutable();
+        return super.clearEnchantments();
+    }
+
+    @Override
+    public ItemBuilder color(final Color color) {
+        checkMutable();
+        return super.color(color);
+    }
+
+    @Override
+    public ItemBuilder flag(final ItemFlag flag) {
+        checkMutable();
+        return super.flag(flag);
+    }
+
+    @Override
+    public ItemBuilder clearFlags() {
+        checkMutable();
+        return super.clearFlags();
+    }
+
+    @Override
+    public ItemBuilder unbreakable() {
+        checkMutable();
+        return super.unbreakable();
+    }
+
+    @Override
+    public ItemBuilder onClick(final ClickEvent event) {
+        checkMutable();
+        return super.onClick(event);
+    }
+
+    @Override
+    Set<ClickEvent> ownClickEvents() {
+        checkMutable();
+        return super.ownClickEvents();
+    }
+
+    @Override
+    Map<String, String> ownRequiredPermissions() {
+        checkMutable();
+        return super.ownRequiredPermissions();
+    }
+
+    @Override
+    public <T> ItemBuilder attach(final AttachmentKey<T> key, final T value) {
+        checkMutable();
+        return super.attach(key, value);
+    }
+
+    @Override
+    public ItemBuilder addPermission(final String permission, final String message) {
+        checkMutable();
+        return super.addPermission(permission, message);
+    }
+
+    @Override
+    public ItemBuilder addPermission(final String permission) {
+        checkMutable();
+        return super.addPermission(permission);
+    }
+
+    @Override
+    public ItemBuilder lockedItem(final ItemBuilder lockedItem) {
+        checkMutable();
+        return super.lockedItem(lockedItem);
+    }
+
+    @Override
+    public void setAmount(final int amount) {
+        checkMutable();
+        super.setAmount(amount);
+    }
+
+    @Override
+    public void setDurability(final short durability) {
+        checkMutable();
+        super.setDurability(durability);
+    }
+
+    @Override
+    public void setData(final MaterialData data) {
+        checkMutable();
+        super.setData(data);
+    }
+
+    @Override
+    public void setType(final Material type) {
+        checkMutable();
+        super.setType(type);
+    }
+
+    @Override
+    @Deprecated
+    public void setTypeId(final int type) {
+        checkMutable();
+        super.setTypeId(type);
+    }
+
+    @Override
+    public boolean setItemMeta(final ItemMeta itemMeta) {
+        checkMutable();
+        return super.setItemMeta(itemMeta);
+    }
+
+    @Override
+    public void addEnchantment(final Enchantment ench, final int level) {
+        checkMutable();
+        super.addEnchantment(ench, level);
+    }
+
+    @Override
+    public void addEnchantments(final Map<Enchantment, Integer> enchantments) {
+        checkMutable();
+        super.addEnchantments(enchantments);
+    }
+
+    @Override
+    public void addUnsafeEnchantment(final Enchantment ench, final int level) {
+        checkMutable();
+        super.addUnsafeEnchantment(ench, level);
+    }
+
+    @Override
+    public void addUnsafeEnchantments(final Map<Enchantment, Integer> enchantments) {
+        checkMutable();
+        super.addUnsafeEnchantments(enchantments);
+    }
+
+    @Override
+    public int removeEnchantment(final Enchantment ench) {
+        checkMutable();
+        return super.removeEnchantment(ench);
+    }
+
+}
@@ -0,0 +1,150 @@
+package com.gamerbah.inventorytoolkit;
+/* Created by GamerBah on 10/17/2026 */
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A {@link Comparator} of items by a sort key that can be computed once per item
+ * <p>
+ * When a {@link ListPageSource} is sorted with one of these, every key is computed
+ * up front rather than twice per comparison, and the resulting order is cached for
+ * as long as the same instance is used. Keep instances around (or use the shared
+ * ones from {@code byStoredObject(Class)}) so that every viewer reuses the same order
+ *
+ * @param <K> the type of the sort key
+ */
+public class KeyedComparator<K> implements Comparator<ItemBuilder> {
+
+    private static final ConcurrentHashMap<AttachmentKey<?>, KeyedComparator<?>> ATTACHMENTS = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<Locale, KeyedComparator<CollationKey>> NAMES = new ConcurrentHashMap<>();
+
+    private final Function<ItemBuilder, ? extends K> key;
+    private final Comparator<? super K> order;
+    private KeyedComparator<K> reversed;
+
+    /**
+     * Creates a new comparator that orders items by the given key
+     *
+     * @param key   gets the sort key of an item
+     * @param order the order of the keys
+     */
+    public KeyedComparator(final Function<ItemBuilder, ? extends K> key, final Comparator<? super K> order) {
+        this.key = key;
+        this.order = order;
+    }
+
+    /**
+     * Creates a new comparator that orders items by the natural order of a key, with null keys last
+     *
+     * @param key gets the sort key of an item
+     * @param <K> the type of the sort key
+     * @return the comparator
+     */
+    public static <K extends Comparable<? super K>> KeyedComparator<K> comparing(final Function<ItemBuilder, ? extends K> key) {
+        return new KeyedComparator<>(key, Comparator.nullsLast(Comparator.<K>naturalOrder()));
+    }
+
+    /**
+     * Gets the shared comparator that orders items by display name in the server's default locale
+     *
+     * @return the comparator
+     * @see #byName(Locale)
+     */
+    public static KeyedComparator<CollationKey> byName() {
+        return byName(Locale.getDefault());
+    }
+
+    /**
+     * Gets the shared comparator that orders items by display name, ignoring colors
+     * <p>
+     * Names are compared by {@link CollationKey}, so accented and upper-case letters sort
+     * where a speaker of the locale would expect. Each item caches its key until its meta changes
+     *
+     * @param locale the locale to collate names for
+     * @return the comparator, which is the same instance for every call with the same locale
+     * @see ItemBuilder#getNameKey(Collator)
+     */
+    public static KeyedComparator<CollationKey> byName(final Locale locale) {
+        return NAMES.computeIfAbsent(locale, key -> {
+            final Collator collator = Collator.getInstance(locale);
+            return comparing(item -> item.getNameKey(collator));
+        });
+    }
+
+    /**
+     * Gets the shared comparator that orders items by an object stored with {@code storeObject(Class, Object)}
+     * <p>
+     * Items without an object of that type are ordered last
+     *
+     * @param type the type the object was stored under
+     * @param <K>  the type of the stored object
+     * @return the comparator, which is the same instance for every call with the same type
+     */
+    public static <K extends Comparable<? super K>> KeyedComparator<K> byStoredObject(final Class<K> type) {
+        return byAttachment(AttachmentKey.of(type));
+    }
+
+    /**
+     * Gets the shared comparator that orders items by a value attached with {@code attach(AttachmentKey, Object)}
+     * <p>
+     * Items without a value under that key are ordered last
+     *
+     * @param key the key the value was attached under
+     * @param <K> the type of the attached value
+     * @return the comparator, which is the same instance for every call with the same key
+     */
+    @SuppressWarnings("unchecked")
+    public static <K extends Comparable<? super K>> KeyedComparator<K> byAttachment(final AttachmentKey<K> key) {
+        return (KeyedComparator<K>) ATTACHMENTS.computeIfAbsent(key, k -> comparing(item -> item.getAttachment(key)));
+    }
+
+    /**
+     * Gets the sort key of an item
+     *
+     * @param item the item
+     * @return the key
+     */
+    public K key(final ItemBuilder item) {
+        return key.apply(item);
+    }
+
+    @Override
+    public int compare(final ItemBuilder a, final ItemBuilder b) {
+        return order.compare(key.apply(a), key.apply(b));
+    }
+
+    /**
+     * Gets the comparator with the opposite order
+     *
+     * @return the reversed comparator, which is the same instance on every call
+     */
+    @Override
+    public synchronized KeyedComparator<K> reversed() {
+        if (reversed == null) {
+            reversed = new KeyedComparator<>(key, order.reversed());
+            reversed.reversed = this;
+        }
+        return reversed;
+    }
+
+    /**
+     * Computes the key of every item and gets a comparator of their indexes
+     *
+     * @param items the items to compute keys for
+     * @return a comparator of indexes into the list
+     */
+    @SuppressWarnings("unchecked")
+    Comparator<Integer> indexOrder(final List<ItemBuilder> items) {
+        final Object[] keys = new Object[items.size()];
+        for (int i = 0; i < keys.length; i++)
+            keys[i] = key.apply(items.get(i));
+        return (a, b) -> order.compare((K) keys[a], (K) keys[b]);
+    }
+
+}
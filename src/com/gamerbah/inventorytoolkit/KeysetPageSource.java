@@ -0,0 +1,76 @@
+package com.gamerbah.inventorytoolkit;
+/* Created by GamerBah on 10/17/2026 */
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+
+/**
+ * A {@link PageSource} that loads slices by keyset, i.e. {@code WHERE key > ? ORDER BY key} in SQL
+ * <p>
+ * The key of the last item of every slice loaded is remembered as an anchor, so
+ * moving to the next page resumes from that key instead of counting past every
+ * earlier row. Jumps past the furthest anchor skip forward from it
+ *
+ * @param <K> the type of the sort key
+ */
+public class KeysetPageSource<K> implements PageSource {
+
+    private final IntSupplier count;
+    private final Function<ItemBuilder, K> key;
+    private final Fetcher<K> fetcher;
+    private final TreeMap<Integer, K> anchors = new TreeMap<>();
+
+    /**
+     * Creates a new keyset-based source
+     *
+     * @param count   supplies the total amount of items
+     * @param key     gets the sort key of an item
+     * @param fetcher loads items after a key
+     */
+    public KeysetPageSource(final IntSupplier count, final Function<ItemBuilder, K> key, final Fetcher<K> fetcher) {
+        this.count = Objects.requireNonNull(count, "count cannot be null");
+        this.key = Objects.requireNonNull(key, "key cannot be null");
+        this.fetcher = Objects.requireNonNull(fetcher, "fetcher cannot be null");
+    }
+
+    @Override
+    public int size() {
+        return count.getAsInt();
+    }
+
+    @Override
+    public synchronized List<ItemBuilder> slice(final int offset, final int limit) {
+        final Map.Entry<Integer, K> anchor = anchors.floorEntry(offset);
+        final int from = anchor == null ? 0 : anchor.getKey();
+        final List<ItemBuilder> items = fetcher.fetch(anchor == null ? null : anchor.getValue(), offset - from, limit);
+        if (!items.isEmpty())
+            anchors.put(offset + items.size(), key.apply(items.get(items.size() - 1)));
+        return items;
+    }
+
+    /**
+     * Forgets every anchor, for when the underlying data has changed
+     */
+    public synchronized void reset() {
+        anchors.clear();
+    }
+
+    @FunctionalInterface
+    public interface Fetcher<K> {
+
+        /**
+         * Loads items in key order
+         *
+         * @param after the key to start after, or null to start from the first item
+         * @param skip  how many items after that key to skip
+         * @param limit the most items to return
+         * @return the items
+         */
+        List<ItemBuilder> fetch(K after, int skip, int limit);
+    }
+
+}
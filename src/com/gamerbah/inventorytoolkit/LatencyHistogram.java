@@ -0,0 +1,116 @@
+package com.gamerbah.inventorytoolkit;
+/* Created by GamerBah on 10/17/2026 */
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free, log-linear histogram of nanosecond latencies
+ * <p>
+ * Values are bucketed by their power of two, and each power of two is split into
+ * {@value #SUB_BUCKETS} linear sub-buckets, so every recorded value is accurate
+ * to within about 6%. Recording is a couple of atomic increments and never allocates
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAGNITUDES = 64 - SUB_BUCKET_BITS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray((MAGNITUDES + 1) * SUB_BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a latency
+     *
+     * @param nanos the latency, in nanoseconds
+     */
+    public void record(final long nanos) {
+        final long value = Math.max(0, nanos);
+        buckets.incrementAndGet(indexOf(value));
+        count.increment();
+        total.add(value);
+        long current;
+        while (value > (current = max.get()))
+            if (max.compareAndSet(current, value))
+                break;
+    }
+
+    /**
+     * Gets the amount of recorded latencies
+     *
+     * @return the amount recorded
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Gets the mean of the recorded latencies
+     *
+     * @return the mean, in nanoseconds
+     */
+    public double getMean() {
+        final long count = getCount();
+        return count == 0 ? 0 : (double) total.sum() / count;
+    }
+
+    /**
+     * Gets the highest recorded latency
+     *
+     * @return the max, in nanoseconds
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Gets the latency at the given percentile
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the upper bound of the bucket holding that percentile, in nanoseconds
+     */
+    public long getPercentile(final double percentile) {
+        final long count = getCount();
+        if (count == 0)
+            return 0;
+        final long target = Math.max(1, (long) Math.ceil((percentile / 100D) * count));
+        long seen = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            seen += buckets.get(i);
+            if (seen >= target)
+                return Math.min(upperBoundOf(i), getMax());
+        }
+        return getMax();
+    }
+
+    /**
+     * Clears every recorded latency
+     */
+    public void reset() {
+        for (int i = 0; i < buckets.length(); i++)
+            buckets.set(i, 0);
+        count.reset();
+        total.reset();
+        max.set(0);
+    }
+
+    private static int indexOf(final long value) {
+        if (value < SUB_BUCKETS)
+            return (int) value;
+        final int magnitude = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS + 1;
+        return (magnitude * SUB_BUCKETS) + (int) ((value >>> (magnitude - 1)) & (SUB_BUCKETS - 1));
+    }
+
+    private static long upperBoundOf(final int index) {
+        final int magnitude = index / SUB_BUCKETS;
+        final long sub = index % SUB_BUCKETS;
+        if (magnitude == 0)
+            return sub;
+        return ((SUB_BUCKETS + sub + 1) << (magnitude - 1)) - 1;
+    }
+
+}
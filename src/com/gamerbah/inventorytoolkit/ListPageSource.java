@@ -0,0 +1,188 @@
+package com.gamerbah.inventorytoolkit;
+/* Created by GamerBah on 10/17/2026 */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link PageSource} over items that are already in memory
+ * <p>
+ * Slices are views of the backing list, so paging never copies items.
+ * Searches use a {@link SearchIndex} over the list if one is given, and
+ * otherwise scan every name.
+ * <p>
+ * Sorting never reorders the list. Instead, the order of the list under each
+ * {@link Comparator} is computed once, cached, and shared by every sorted or
+ * searched view of this source. Filtering by attachment uses an index of
+ * each key's values, built the first time the key is filtered on.
+ * <p>
+ * The list may only be appended to, and the attachments of its items are
+ * expected not to change; orders are recomputed and indexes extended once it grows
+ */
+public class ListPageSource implements PageSource {
+
+    private final List<ItemBuilder> items;
+    private final SearchIndex index;
+    private final LinkedHashMap<Comparator<ItemBuilder>, int[]> orders = new LinkedHashMap<Comparator<ItemBuilder>, int[]>(16, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Comparator<ItemBuilder>, int[]> eldest) {
+            return size() > MAX_ORDERS;
+        }
+    };
+
+    private final HashMap<AttachmentKey<?>, AttachmentIndex> attachmentIndexes = new HashMap<>();
+
+    private static final int MAX_ORDERS = 8;
+
+    /**
+     * Creates a new source over the given list, without copying it
+     *
+     * @param items the items to page through
+     */
+    public ListPageSource(final List<ItemBuilder> items) {
+        this(items, null);
+    }
+
+    /**
+     * Creates a new source over the given list, without copying it, that searches using an index
+     *
+     * @param items the items to page through
+     * @param index the index over the same list, or null to scan on every search
+     */
+    public ListPageSource(final List<ItemBuilder> items, final SearchIndex index) {
+        this.items = Collections.unmodifiableList(items);
+        this.index = index;
+    }
+
+    @Override
+    public int size() {
+        return items.size();
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        return false;
+    }
+
+    @Override
+    public List<ItemBuilder> slice(final int offset, final int limit) {
+        final int size = items.size();
+        if (offset >= size || limit <= 0)
+            return Collections.emptyList();
+        return items.subList(Math.max(0, offset), Math.min(size, offset + limit));
+    }
+
+    @Override
+    public PageSource search(final String keyword) {
+        if (index != null)
+            return new IndexedPageSource(this, index.query(keyword));
+        final String query = SearchIndex.normalize(keyword);
+        final List<ItemBuilder> matches = new ArrayList<>();
+        for (ItemBuilder item : items)
+            if (SearchIndex.matches(item, query, false))
+                matches.add(item);
+        return new ListPageSource(matches);
+    }
+
+    @Override
+    public <T> PageSource filter(final AttachmentKey<T> key, final T value) {
+        return new IndexedPageSource(this, attached(key, value));
+    }
+
+    @Override
+    public PageSource sort(final Comparator<ItemBuilder> comparator) {
+        return new IndexedPageSource(this, order(comparator));
+    }
+
+    /**
+     * Gets the indexes of the items with a value attached under a key
+     *
+     * @param key   the key of the attachment
+     * @param value the value the attachment must equal
+     * @return the ascending indexes of the matching items
+     */
+    synchronized int[] attached(final AttachmentKey<?> key, final Object value) {
+        final AttachmentIndex index = attachmentIndexes.computeIfAbsent(key, k -> new AttachmentIndex());
+        for (int i = index.indexed; i < items.size(); i++) {
+            final Object attached = items.get(i).getAttachment(key);
+            if (attached != null)
+                index.values.computeIfAbsent(attached, v -> new Postings()).add(i);
+        }
+        index.indexed = items.size();
+        final Postings matches = value == null ? null : index.values.get(value);
+        return matches == null ? new int[0] : matches.toArray();
+    }
+
+    /**
+     * Gets the indexes of the items in the order of a {@link Comparator}
+     * <p>
+     * {@link KeyedComparator}s have their keys computed once per item. Lists of at least
+     * {@code InventoryToolKit.getParallelSortThreshold()} items are sorted on multiple threads
+     *
+     * @param comparator the {@link Comparator} to order by
+     * @return the sorted indexes, shared and not to be modified
+     */
+    synchronized int[] order(final Comparator<ItemBuilder> comparator) {
+        int[] order = orders.get(comparator);
+        if (order != null && order.length == items.size())
+            return order;
+        final Integer[] indexes = new Integer[items.size()];
+        for (int i = 0; i < indexes.length; i++)
+            indexes[i] = i;
+        final Comparator<Integer> indexOrder = comparator instanceof KeyedComparator
+                ? ((KeyedComparator<?>) comparator).indexOrder(items)
+                : (a, b) -> comparator.compare(items.get(a), items.get(b));
+        final int threshold = InventoryToolKit.getParallelSortThreshold();
+        if (threshold > 0 && indexes.length >= threshold) {
+            Arrays.parallelSort(indexes, indexOrder);
+        } else Arrays.sort(indexes, indexOrder);
+        order = new int[indexes.length];
+        for (int i = 0; i < order.length; i++)
+            order[i] = indexes[i];
+        orders.put(comparator, order);
+        return order;
+    }
+
+    /**
+     * Takes a snapshot of some of the items for searching off of the server thread
+     *
+     * @param indexes     the indexes of the items to include, in order, or null for every item
+     * @param includeLore whether lore should be searched as well as names, if there's no {@link SearchIndex}
+     * @return the snapshot, holding the normalized text of the {@link SearchIndex} if there is one
+     */
+    SearchIndex.Snapshot snapshot(final int[] indexes, final boolean includeLore) {
+        if (index != null)
+            return index.snapshot(indexes);
+        if (indexes == null)
+            return new SearchIndex.Snapshot(items, includeLore);
+        final List<ItemBuilder> selected = new ArrayList<>(indexes.length);
+        for (int index : indexes)
+            selected.add(items.get(index));
+        return new SearchIndex.Snapshot(selected, includeLore);
+    }
+
+    /**
+     * Gets the backing list
+     *
+     * @return the items, read-only
+     */
+    List<ItemBuilder> getItems() {
+        return items;
+    }
+
+    /**
+     * The items carrying each value of an attachment key
+     */
+    private static final class AttachmentIndex {
+
+        private final HashMap<Object, Postings> values = new HashMap<>();
+        private int indexed = 0;
+    }
+
+}
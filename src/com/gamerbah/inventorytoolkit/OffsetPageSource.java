@@ -0,0 +1,54 @@
+package com.gamerbah.inventorytoolkit;
+/* Created by GamerBah on 10/17/2026 */
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntSupplier;
+
+/**
+ * A {@link PageSource} that loads each slice by offset and limit,
+ * i.e. {@code LIMIT ? OFFSET ?} in SQL
+ * <p>
+ * Nothing is cached here, so every page displayed is fetched again.
+ * Prefer {@link KeysetPageSource} when the data has a stable, unique order
+ */
+public class OffsetPageSource implements PageSource {
+
+    private final IntSupplier count;
+    private final Fetcher fetcher;
+
+    /**
+     * Creates a new offset-based source
+     *
+     * @param count   supplies the total amount of items
+     * @param fetcher loads the items of a slice
+     */
+    public OffsetPageSource(final IntSupplier count, final Fetcher fetcher) {
+        this.count = Objects.requireNonNull(count, "count cannot be null");
+        this.fetcher = Objects.requireNonNull(fetcher, "fetcher cannot be null");
+    }
+
+    @Override
+    public int size() {
+        return count.getAsInt();
+    }
+
+    @Override
+    public List<ItemBuilder> slice(final int offset, final int limit) {
+        return fetcher.fetch(offset, limit);
+    }
+
+    @FunctionalInterface
+    public interface Fetcher {
+
+        /**
+         * Loads a slice of items
+         *
+         * @param offset the index of the first item
+         * @param limit  the most items to return
+         * @return the items in the slice
+         */
+        List<ItemBuilder> fetch(int offset, int limit);
+    }
+
+}
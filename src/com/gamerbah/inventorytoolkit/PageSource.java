@@ -0,0 +1,85 @@
+package com.gamerbah.inventorytoolkit;
+/* Created by GamerBah on 10/17/2026 */
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Supplies the sortable items of a {@link GameInventory} one page at a time
+ * <p>
+ * {@link InventoryBuilder} only ever asks for the slice it's about to display,
+ * so a source backed by a database or a generator keeps memory proportional
+ * to what is on screen rather than to the size of the catalog.
+ * Slices may be requested off of the server thread, unless {@code isThreadSafe()} is false
+ *
+ * @see ListPageSource
+ * @see KeysetPageSource
+ * @see OffsetPageSource
+ */
+public interface PageSource {
+
+    /**
+     * Gets the total amount of items in this source
+     *
+     * @return the amount of items
+     */
+    int size();
+
+    /**
+     * Gets a slice of the items in this source
+     *
+     * @param offset the index of the first item
+     * @param limit  the most items to return
+     * @return the items, which may be fewer than {@code limit} at the end of the source
+     */
+    List<ItemBuilder> slice(int offset, int limit);
+
+    /**
+     * Checks whether slices may be requested off of the server thread
+     * <p>
+     * Sources over data the server thread changes, such as the item list of a
+     * {@link GameInventory}, return false and are never prefetched. Slicing them is
+     * cheap enough that there's nothing to gain from it anyway
+     *
+     * @return true if {@code slice(int, int)} may be called from any thread
+     */
+    default boolean isThreadSafe() {
+        return true;
+    }
+
+    /**
+     * Gets a view of this source containing only items whose name contains the keyword
+     *
+     * @param keyword the keyword to search item names for
+     * @return the matching items
+     * @throws UnsupportedOperationException if this source can't be searched
+     */
+    default PageSource search(final String keyword) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support searching");
+    }
+
+    /**
+     * Gets a view of this source containing only items with a value attached under a key
+     *
+     * @param key   the key of the attachment
+     * @param value the value the attachment must equal
+     * @param <T>   the type of the attachment
+     * @return the matching items
+     * @throws UnsupportedOperationException if this source can't be filtered
+     */
+    default <T> PageSource filter(final AttachmentKey<T> key, final T value) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support filtering");
+    }
+
+    /**
+     * Gets a view of this source in the order of the given {@link Comparator}
+     *
+     * @param comparator the {@link Comparator} to use for comparing items
+     * @return the sorted items
+     * @throws UnsupportedOperationException if this source can't be sorted
+     */
+    default PageSource sort(final Comparator<ItemBuilder> comparator) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support sorting");
+    }
+
+}
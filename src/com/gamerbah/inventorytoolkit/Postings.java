@@ -0,0 +1,63 @@
+package com.gamerbah.inventorytoolkit;
+/* Created by GamerBah on 10/17/2026 */
+
+import java.util.Arrays;
+
+/**
+ * A growable, ascending list of item indexes
+ *
+ * @see SearchIndex
+ * @see ListPageSource
+ */
+final class Postings {
+
+    int[] ids = new int[4];
+    int size = 0;
+
+    /**
+     * Appends an index, which must not be lower than the last one
+     *
+     * @param id the index to add
+     */
+    void add(final int id) {
+        if (size > 0 && ids[size - 1] == id)
+            return;
+        if (size == ids.length)
+            ids = Arrays.copyOf(ids, size * 2);
+        ids[size++] = id;
+    }
+
+    /**
+     * Gets the indexes found in both lists
+     *
+     * @param other the list to intersect with
+     * @return the common indexes
+     */
+    Postings intersect(final Postings other) {
+        final Postings result = new Postings();
+        result.ids = new int[Math.max(1, Math.min(size, other.size))];
+        int i = 0, j = 0;
+        while (i < size && j < other.size) {
+            if (ids[i] < other.ids[j]) {
+                i++;
+            } else if (ids[i] > other.ids[j]) {
+                j++;
+            } else {
+                result.ids[result.size++] = ids[i];
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Copies the indexes into an array of their exact length
+     *
+     * @return the indexes
+     */
+    int[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+}
@@ -0,0 +1,281 @@
+package com.gamerbah.inventorytoolkit;
+/* Created by GamerBah on 10/17/2026 */
+
+import net.md_5.bungee.api.ChatColor;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * An n-gram index over the names, and optionally the lore, of a list of items
+ * <p>
+ * Text is normalized once when an item is indexed: colors are stripped and it's
+ * lower-cased. Queries of two or more characters only verify the items that
+ * share every bigram or trigram of the query; single characters scan the normalized text.
+ * Items appended to the list are indexed on the next query, so adding items
+ * never rebuilds the index
+ */
+public class SearchIndex {
+
+    private static final int RANKS = 4;
+
+    private final List<ItemBuilder> items;
+    private final boolean includeLore;
+    private final ArrayList<String> names = new ArrayList<>();
+    private final ArrayList<String> lore = new ArrayList<>();
+    private final HashMap<Long, Postings> postings = new HashMap<>();
+
+    /**
+     * Creates a new index over the given list
+     *
+     * @param items       the items to index, which may only be appended to
+     * @param includeLore whether lore should be searched as well as names
+     */
+    public SearchIndex(final List<ItemBuilder> items, final boolean includeLore) {
+        this.items = items;
+        this.includeLore = includeLore;
+    }
+
+    /**
+     * Finds every item whose name, or lore if included, contains the keyword
+     * <p>
+     * Results are ranked: names starting with the keyword come first, then names
+     * with a word starting with it, then names containing it anywhere, then lore
+     * matches. Items of the same rank stay in list order
+     *
+     * @param keyword the keyword to search for, case and colors ignored
+     * @return the indexes of the matching items in the list
+     */
+    public synchronized int[] query(final String keyword) {
+        update();
+        final String query = normalize(keyword);
+        final int size = names.size();
+        if (query.isEmpty()) {
+            final int[] all = new int[size];
+            for (int i = 0; i < size; i++)
+                all[i] = i;
+            return all;
+        }
+
+        final Postings[] ranks = new Postings[RANKS];
+        for (int i = 0; i < RANKS; i++)
+            ranks[i] = new Postings();
+        if (query.length() < 2) {
+            for (int i = 0; i < size; i++)
+                rank(ranks, i, query);
+        } else {
+            final Postings candidates = candidates(query);
+            if (candidates != null)
+                for (int i = 0; i < candidates.size; i++)
+                    rank(ranks, candidates.ids[i], query);
+        }
+
+        int matches = 0;
+        for (Postings rank : ranks)
+            matches += rank.size;
+        final int[] result = new int[matches];
+        int offset = 0;
+        for (Postings rank : ranks) {
+            System.arraycopy(rank.ids, 0, result, offset, rank.size);
+            offset += rank.size;
+        }
+        return result;
+    }
+
+    /**
+     * Gets the amount of items indexed so far
+     *
+     * @return the amount of items
+     */
+    public synchronized int size() {
+        return names.size();
+    }
+
+    /**
+     * Indexes any items appended to the list since the last query
+     */
+    private void update() {
+        for (int i = names.size(); i < items.size(); i++) {
+            final ItemMeta meta = items.get(i).getItemMeta();
+            final String name = name(meta);
+            final String text = includeLore ? lore(meta) : "";
+            names.add(name);
+            lore.add(text);
+            index(i, name);
+            index(i, text);
+        }
+    }
+
+    private void index(final int id, final String text) {
+        for (int i = 0; i + 2 <= text.length(); i++) {
+            postings.computeIfAbsent(bigram(text, i), key -> new Postings()).add(id);
+            if (i + 3 <= text.length())
+                postings.computeIfAbsent(trigram(text, i), key -> new Postings()).add(id);
+        }
+    }
+
+    /**
+     * Intersects the postings of every trigram in the query, or of its bigram
+     * if it's only two characters long
+     *
+     * @param query the normalized query
+     * @return the items containing every n-gram, or null if there are none
+     */
+    private Postings candidates(final String query) {
+        if (query.length() == 2)
+            return postings.get(bigram(query, 0));
+        final Postings[] lists = new Postings[query.length() - 2];
+        for (int i = 0; i < lists.length; i++) {
+            lists[i] = postings.get(trigram(query, i));
+            if (lists[i] == null)
+                return null;
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+        Postings result = lists[0];
+        // A list much longer than the candidates filters out next to nothing;
+        // candidates are verified anyway, so stop intersecting there
+        for (int i = 1; i < lists.length && result.size > 0 && lists[i].size / 8 <= result.size; i++)
+            result = result.intersect(lists[i]);
+        return result;
+    }
+
+    private void rank(final Postings[] ranks, final int id, final String query) {
+        final String name = names.get(id);
+        int index = name.indexOf(query);
+        if (index == 0) {
+            ranks[0].add(id);
+        } else if (index > 0) {
+            int rank = 2;
+            for (; index > 0; index = name.indexOf(query, index + 1))
+                if (!Character.isLetterOrDigit(name.charAt(index - 1))) {
+                    rank = 1;
+                    break;
+                }
+            ranks[rank].add(id);
+        } else if (lore.get(id).contains(query))
+            ranks[3].add(id);
+    }
+
+    private static long bigram(final String text, final int index) {
+        return (1L << 48) | ((long) text.charAt(index) << 16) | text.charAt(index + 1);
+    }
+
+    private static long trigram(final String text, final int index) {
+        return ((long) text.charAt(index) << 32) | ((long) text.charAt(index + 1) << 16) | text.charAt(index + 2);
+    }
+
+    /**
+     * Checks a single item against a query without using an index
+     *
+     * @param item        the item to check
+     * @param query       the normalized query
+     * @param includeLore whether lore should be checked as well as the name
+     * @return true if the item matches
+     */
+    public static boolean matches(final ItemBuilder item, final String query, final boolean includeLore) {
+        final ItemMeta meta = item.getItemMeta();
+        if (meta == null)
+            return false;
+        if (meta.hasDisplayName() && normalize(meta.getDisplayName()).contains(query))
+            return true;
+        return includeLore && meta.hasLore() && normalize(String.join("\n", meta.getLore())).contains(query);
+    }
+
+    private static String name(final ItemMeta meta) {
+        return meta != null && meta.hasDisplayName() ? normalize(meta.getDisplayName()) : "";
+    }
+
+    private static String lore(final ItemMeta meta) {
+        return meta != null && meta.hasLore() ? normalize(String.join("\n", meta.getLore())) : "";
+    }
+
+    /**
+     * Normalizes text for indexing or querying
+     *
+     * @param text the text
+     * @return the text without colors, in lower case
+     */
+    public static String normalize(final String text) {
+        return ChatColor.stripColor(text).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Takes a snapshot of some of the indexed items and their normalized text,
+     * indexing any items appended to the list first
+     * <p>
+     * Only references are copied, so this never reads the items themselves
+     *
+     * @param indexes the indexes of the items to include, in order, or null for every item
+     * @return the snapshot
+     */
+    synchronized Snapshot snapshot(final int[] indexes) {
+        update();
+        final int size = indexes != null ? indexes.length : names.size();
+        final ItemBuilder[] items = new ItemBuilder[size];
+        final String[] names = new String[size];
+        final String[] lore = includeLore ? new String[size] : null;
+        for (int i = 0; i < size; i++) {
+            final int id = indexes != null ? indexes[i] : i;
+            items[i] = this.items.get(id);
+            names[i] = this.names.get(id);
+            if (lore != null)
+                lore[i] = this.lore.get(id);
+        }
+        return new Snapshot(items, names, lore, includeLore);
+    }
+
+    /**
+     * A copy of a list of items, taken on the server thread so that another
+     * thread can search them without reading the list
+     * <p>
+     * Snapshots taken from a {@link SearchIndex} hold its normalized text, and
+     * are searched without reading the items at all
+     */
+    static final class Snapshot {
+
+        private final ItemBuilder[] items;
+        private final String[] names;
+        private final String[] lore;
+        private final boolean includeLore;
+
+        /**
+         * Copies the items, whose text is read when they're searched
+         *
+         * @param items       the items
+         * @param includeLore whether lore should be searched as well as names
+         */
+        Snapshot(final List<ItemBuilder> items, final boolean includeLore) {
+            this(items.toArray(new ItemBuilder[0]), null, null, includeLore);
+        }
+
+        private Snapshot(final ItemBuilder[] items, final String[] names, final String[] lore, final boolean includeLore) {
+            this.items = items;
+            this.names = names;
+            this.lore = lore;
+            this.includeLore = includeLore;
+        }
+
+        int size() {
+            return items.length;
+        }
+
+        /**
+         * Collects the items of a range whose text contains a query
+         *
+         * @param offset  the index of the first item to check
+         * @param limit   the most items to check
+         * @param query   the normalized query
+         * @param matches receives the matching items, in order
+         */
+        void match(final int offset, final int limit, final String query, final List<ItemBuilder> matches) {
+            for (int i = offset; i < items.length && i < offset + limit; i++)
+                if (names == null ? matches(items[i], query, includeLore) : names[i].contains(query) || (lore != null && lore[i].contains(query)))
+                    matches.add(items[i]);
+        }
+    }
+
+}
@@ -0,0 +1,221 @@
+package com.gamerbah.inventorytoolkit;
+/* Created by GamerBah on 10/17/2026 */
+
+import lombok.Getter;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Keeps track of the {@link InventoryBuilder} each player is currently viewing
+ * <p>
+ * Sessions are keyed by {@link UUID} so no {@link Player} objects are retained
+ * after a player leaves. They are evicted when the menu is closed, when the
+ * player quits, or by the idle sweep if neither of those ever happened
+ */
+public class SessionRegistry {
+
+    private final HashMap<UUID, InventoryBuilder> sessions = new HashMap<>();
+    private final Map<Player, InventoryBuilder> byPlayer = new PlayerView();
+
+    @Getter
+    private long evictions = 0;
+
+    /**
+     * Gets the session for a {@link Player}, marking it as recently used
+     *
+     * @param player the {@link Player} to look up
+     * @return the player's current {@link InventoryBuilder}, or null if they have none
+     */
+    public InventoryBuilder get(final Player player) {
+        final InventoryBuilder inventoryBuilder = sessions.get(player.getUniqueId());
+        if (inventoryBuilder != null)
+            inventoryBuilder.touch();
+        return inventoryBuilder;
+    }
+
+    /**
+     * Checks whether a {@link Player} has a session
+     *
+     * @param player the {@link Player} to check
+     * @return true if the player has a session
+     */
+    public boolean contains(final Player player) {
+        return sessions.containsKey(player.getUniqueId());
+    }
+
+    /**
+     * Sets the current session for a {@link Player}, replacing any previous one
+     *
+     * @param player           the {@link Player} viewing the inventory
+     * @param inventoryBuilder the {@link InventoryBuilder} being viewed
+     */
+    public void put(final Player player, final InventoryBuilder inventoryBuilder) {
+        inventoryBuilder.touch();
+        sessions.put(player.getUniqueId(), inventoryBuilder);
+    }
+
+    /**
+     * Removes the session for a player
+     *
+     * @param uuid the {@link UUID} of the player
+     * @return the removed {@link InventoryBuilder}, or null if there was none
+     */
+    public InventoryBuilder remove(final UUID uuid) {
+        final InventoryBuilder removed = sessions.remove(uuid);
+        if (removed != null)
+            evictions++;
+        return removed;
+    }
+
+    /**
+     * Removes the session for a player if it's the one displaying the given {@link Inventory}
+     * <p>
+     * Opening a new menu closes the old one first, so this keeps the close
+     * event of a replaced inventory from evicting the session that replaced it
+     *
+     * @param uuid      the {@link UUID} of the player
+     * @param inventory the {@link Inventory} that was closed
+     */
+    protected void close(final UUID uuid, final Inventory inventory) {
+        final InventoryBuilder inventoryBuilder = sessions.get(uuid);
+        if (inventoryBuilder != null && inventoryBuilder.getInventory().equals(inventory))
+            remove(uuid);
+    }
+
+    /**
+     * Evicts every session that hasn't been used within the timeout and
+     * whose player is no longer looking at it
+     *
+     * @param idleMillis how long a session may sit unused, in milliseconds
+     * @return the amount of sessions evicted
+     */
+    public int sweep(final long idleMillis) {
+        final long cutoff = System.currentTimeMillis() - idleMillis;
+        int evicted = 0;
+        final Iterator<Map.Entry<UUID, InventoryBuilder>> iterator = sessions.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<UUID, InventoryBuilder> entry = iterator.next();
+            if (entry.getValue().getLastAccess() < cutoff && !isViewing(entry.getKey(), entry.getValue())) {
+                iterator.remove();
+                evicted++;
+            }
+        }
+        evictions += evicted;
+        return evicted;
+    }
+
+    /**
+     * Gets the amount of sessions currently held
+     *
+     * @return the amount of live sessions
+     */
+    public int getLiveSessions() {
+        return sessions.size();
+    }
+
+    /**
+     * Gets the amount of items referenced by all live sessions
+     * <p>
+     * This counts the page items and rendered slots each session holds onto,
+     * which is what keeps a session's memory alive
+     *
+     * @return the amount of retained items
+     */
+    public long getRetainedItems() {
+        long retained = 0;
+        for (InventoryBuilder inventoryBuilder : sessions.values())
+            retained += inventoryBuilder.getRetainedItems();
+        return retained;
+    }
+
+    /**
+     * Gets a view of the sessions keyed by {@link Player}, for code written against
+     * the old {@code InventoryToolKit.getInventoryUsers()} map
+     * <p>
+     * Changes to the view go straight to this registry
+     *
+     * @return the view
+     */
+    Map<Player, InventoryBuilder> asPlayerMap() {
+        return byPlayer;
+    }
+
+    private static boolean isViewing(final UUID uuid, final InventoryBuilder inventoryBuilder) {
+        return Bukkit.getPlayer(uuid) != null && inventoryBuilder.isViewing();
+    }
+
+    /**
+     * The sessions keyed by the {@link Player} of each {@link InventoryBuilder}
+     */
+    private final class PlayerView extends AbstractMap<Player, InventoryBuilder> {
+
+        @Override
+        public InventoryBuilder get(final Object key) {
+            return key instanceof Player ? SessionRegistry.this.get((Player) key) : null;
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return key instanceof Player && contains((Player) key);
+        }
+
+        @Override
+        public InventoryBuilder put(final Player player, final InventoryBuilder inventoryBuilder) {
+            inventoryBuilder.touch();
+            return sessions.put(player.getUniqueId(), inventoryBuilder);
+        }
+
+        @Override
+        public InventoryBuilder remove(final Object key) {
+            return key instanceof Player ? SessionRegistry.this.remove(((Player) key).getUniqueId()) : null;
+        }
+
+        @Override
+        public int size() {
+            return sessions.size();
+        }
+
+        @Override
+        public Set<Entry<Player, InventoryBuilder>> entrySet() {
+            return new AbstractSet<Entry<Player, InventoryBuilder>>() {
+                @Override
+                public Iterator<Entry<Player, InventoryBuilder>> iterator() {
+                    final Iterator<InventoryBuilder> iterator = sessions.values().iterator();
+                    return new Iterator<Entry<Player, InventoryBuilder>>() {
+                        @Override
+                        public boolean hasNext() {
+                            return iterator.hasNext();
+                        }
+
+                        @Override
+                        public Entry<Player, InventoryBuilder> next() {
+                            final InventoryBuilder inventoryBuilder = iterator.next();
+                            return new SimpleImmutableEntry<>(inventoryBuilder.getPlayer(), inventoryBuilder);
+                        }
+
+                        @Override
+                        public void remove() {
+                            iterator.remove();
+                            evictions++;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return sessions.size();
+                }
+            };
+        }
+    }
+
+}
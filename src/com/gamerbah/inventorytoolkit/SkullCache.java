@@ -0,0 +1,137 @@
+package com.gamerbah.inventorytoolkit;
+/* Created by GamerBah on 10/17/2026 */
+
+import com.mojang.authlib.GameProfile;
+import com.mojang.authlib.properties.Property;
+import lombok.Getter;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Caches the textured skulls made by {@code ItemBuilder.customSkull(String)}
+ * <p>
+ * Each texture URL is turned into a frozen {@link ItemTemplate} once and kept in a
+ * bounded LRU, so showing the same head again only copies the template. Profiles get
+ * a UUID derived from the URL, which lets clients reuse the texture they already
+ * downloaded. The skull meta's {@code profile} field is resolved once, the first time
+ * a skull is made
+ */
+public class SkullCache {
+
+    @Getter
+    private static int capacity = 512;
+    @Getter
+    private static long hits = 0, misses = 0;
+
+    private static volatile MethodHandle profileSetter = null;
+
+    private static final LinkedHashMap<String, ItemTemplate> skulls = new LinkedHashMap<String, ItemTemplate>(16, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, ItemTemplate> eldest) {
+            return size() > capacity;
+        }
+    };
+
+    private SkullCache() {
+    }
+
+    /**
+     * Gets the template of the skull with the given texture, making it if it isn't cached
+     *
+     * @param url the URL of the texture
+     * @return the skull template
+     * @throws Exception if the skull meta has no profile field to set
+     */
+    static synchronized ItemTemplate get(final String url) throws Exception {
+        ItemTemplate skull = skulls.get(url);
+        if (skull != null) {
+            hits++;
+            return skull;
+        }
+        misses++;
+        skull = create(url);
+        skulls.put(url, skull);
+        return skull;
+    }
+
+    private static ItemTemplate create(final String url) throws Exception {
+        final ItemStack item = new ItemStack(Material.SKULL_ITEM, 1, (byte) 3);
+        final ItemMeta meta = item.getItemMeta();
+        final GameProfile profile = new GameProfile(UUID.nameUUIDFromBytes(url.getBytes(StandardCharsets.UTF_8)), null);
+        final String textures = "{\"textures\":{\"SKIN\":{\"url\":\"" + url + "\"}}}";
+        profile.getProperties().put("textures", new Property("textures", Base64.getEncoder().encodeToString(textures.getBytes(StandardCharsets.UTF_8))));
+        try {
+            profileSetter(meta).invoke(meta, profile);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+        item.setItemMeta(meta);
+        return new ItemBuilder(item).freeze();
+    }
+
+    private static MethodHandle profileSetter(final ItemMeta meta) throws ReflectiveOperationException {
+        MethodHandle setter = profileSetter;
+        if (setter == null) {
+            final Field field = meta.getClass().getDeclaredField("profile");
+            field.setAccessible(true);
+            setter = MethodHandles.lookup().unreflectSetter(field);
+            profileSetter = setter;
+        }
+        return setter;
+    }
+
+    /**
+     * Sets how many skulls are kept, dropping the least recently used ones if there are more
+     *
+     * @param capacity the amount of skulls to keep, 0 to not cache them
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public static synchronized void setCapacity(final int capacity) {
+        if (capacity < 0)
+            throw new IllegalArgumentException("capacity cannot be negative");
+        SkullCache.capacity = capacity;
+        while (skulls.size() > capacity)
+            skulls.remove(skulls.keySet().iterator().next());
+    }
+
+    /**
+     * Gets the amount of skulls currently cached
+     *
+     * @return the amount of skulls
+     */
+    public static synchronized int size() {
+        return skulls.size();
+    }
+
+    /**
+     * Gets the fraction of skulls that were found in the cache
+     *
+     * @return the hit rate, between 0 and 1, or 0 if no skulls have been made
+     */
+    public static synchronized double getHitRate() {
+        final long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * Discards every cached skull and resets the hit and miss counts
+     */
+    public static synchronized void clear() {
+        skulls.clear();
+        hits = 0;
+        misses = 0;
+    }
+
+}
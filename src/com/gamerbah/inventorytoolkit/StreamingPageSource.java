@@ -0,0 +1,62 @@
+package com.gamerbah.inventorytoolkit;
+/* Created by GamerBah on 10/17/2026 */
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A {@link PageSource} that results are appended to while a search is still running
+ * <p>
+ * Its size only grows, and each slice is a copy of what had arrived when it was taken
+ *
+ * @see InventoryBuilder#searchAsync(String)
+ */
+class StreamingPageSource implements PageSource {
+
+    private ItemBuilder[] items = new ItemBuilder[64];
+    private volatile int size = 0;
+
+    /**
+     * Appends items to the end of this source
+     *
+     * @param matches the items to append
+     */
+    synchronized void addAll(final List<ItemBuilder> matches) {
+        if (size + matches.size() > items.length)
+            items = Arrays.copyOf(items, Math.max(items.length * 2, size + matches.size()));
+        int index = size;
+        for (ItemBuilder item : matches)
+            items[index++] = item;
+        size = index;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public synchronized List<ItemBuilder> slice(final int offset, final int limit) {
+        if (offset >= size || limit <= 0)
+            return Collections.emptyList();
+        return Arrays.asList(Arrays.copyOfRange(items, Math.max(0, offset), Math.min(size, offset + limit)));
+    }
+
+    @Override
+    public PageSource search(final String keyword) {
+        return new ListPageSource(slice(0, size)).search(keyword);
+    }
+
+    @Override
+    public <T> PageSource filter(final AttachmentKey<T> key, final T value) {
+        return new ListPageSource(slice(0, size)).filter(key, value);
+    }
+
+    @Override
+    public PageSource sort(final Comparator<ItemBuilder> comparator) {
+        return new ListPageSource(slice(0, size)).sort(comparator);
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.gamerbah.inventorytoolkit;
+/* Created by GamerBah on 10/17/2026 */
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+
+/**
+ * Changes the title of an open {@link Inventory} without reopening it
+ * <p>
+ * Bukkit has no API for this, so each server version needs its own adapter.
+ * Adapters are named {@code TitleAdapter_<version>} after the CraftBukkit package,
+ * and when none exists for the running server, every update reports failure so
+ * the caller can fall back to creating a new {@link Inventory}
+ */
+public interface TitleAdapter {
+
+    /**
+     * Sends a new title for the {@link Inventory} a {@link Player} is viewing
+     *
+     * @param player    the {@link Player} viewing the inventory
+     * @param inventory the {@link Inventory} that should be retitled
+     * @param title     the new title
+     * @return true if the title was updated, false if the inventory has to be reopened instead
+     */
+    boolean updateTitle(Player player, Inventory inventory, String title);
+
+    /**
+     * Gets the adapter for the running server version
+     *
+     * @return the adapter, which never updates titles if the version isn't supported
+     */
+    static TitleAdapter get() {
+        return Holder.ADAPTER;
+    }
+
+    final class Holder {
+
+        private static final TitleAdapter ADAPTER = load();
+
+        private Holder() {
+        }
+
+        private static TitleAdapter load() {
+            final String packageName = Bukkit.getServer().getClass().getPackage().getName();
+            final String version = packageName.substring(packageName.lastIndexOf('.') + 1);
+            try {
+                return (TitleAdapter) Class.forName(TitleAdapter.class.getName() + "_" + version).getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError | ClassCastException e) {
+                return (player, inventory, title) -> false;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.gamerbah.inventorytoolkit;
+/* Created by GamerBah on 10/17/2026 */
+
+import net.minecraft.server.v1_12_R1.ChatMessage;
+import net.minecraft.server.v1_12_R1.Container;
+import net.minecraft.server.v1_12_R1.EntityPlayer;
+import net.minecraft.server.v1_12_R1.IInventory;
+import net.minecraft.server.v1_12_R1.ItemStack;
+import net.minecraft.server.v1_12_R1.PacketPlayOutOpenWindow;
+import net.minecraft.server.v1_12_R1.PacketPlayOutSetSlot;
+import org.bukkit.craftbukkit.v1_12_R1.entity.CraftPlayer;
+import org.bukkit.craftbukkit.v1_12_R1.inventory.CraftInventory;
+import org.bukkit.craftbukkit.v1_12_R1.inventory.CraftInventoryCustom;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+
+/**
+ * {@link TitleAdapter} for 1.12 servers
+ * <p>
+ * Resends the open-window packet for the current window id with the new title.
+ * The client empties the window when it receives it, but slots that changed since
+ * the last sync are sent by the container at the end of the tick anyway, so only
+ * the unchanged, non-empty slots are sent again. The title of the Bukkit
+ * {@link Inventory} is updated too, so {@code getTitle()} matches what is shown
+ */
+public class TitleAdapter_v1_12_R1 implements TitleAdapter {
+
+    private static final Class<?> CUSTOM_INVENTORY = customInventory();
+    private static final MethodHandle TITLE_SETTER = titleSetter();
+
+    @Override
+    public boolean updateTitle(final Player player, final Inventory inventory, final String title) {
+        final EntityPlayer handle = ((CraftPlayer) player).getHandle();
+        final Container container = handle.activeContainer;
+        if (container == handle.defaultContainer || !inventory.equals(container.getBukkitView().getTopInventory()))
+            return false;
+        handle.playerConnection.sendPacket(new PacketPlayOutOpenWindow(container.windowId, "minecraft:chest",
+                new ChatMessage(title), inventory.getSize()));
+        for (int slot = 0; slot < inventory.getSize(); slot++) {
+            final ItemStack item = container.slots.get(slot).getItem();
+            if (!item.isEmpty() && ItemStack.matches(container.items.get(slot), item))
+                handle.playerConnection.sendPacket(new PacketPlayOutSetSlot(container.windowId, slot, item));
+        }
+        setTitle(inventory, title);
+        return true;
+    }
+
+    /**
+     * Changes the title the server keeps for a custom inventory
+     *
+     * @param inventory the inventory
+     * @param title     the new title
+     */
+    private static void setTitle(final Inventory inventory, final String title) {
+        if (TITLE_SETTER == null || !(inventory instanceof CraftInventory))
+            return;
+        final IInventory handle = ((CraftInventory) inventory).getInventory();
+        if (!CUSTOM_INVENTORY.isInstance(handle))
+            return;
+        try {
+            TITLE_SETTER.invoke(handle, title);
+        } catch (Throwable throwable) {
+            InventoryToolKit.getInstance().getLogger().warning("Failed to update the title of " + title + ": " + throwable);
+        }
+    }
+
+    private static Class<?> customInventory() {
+        try {
+            return Class.forName(CraftInventoryCustom.class.getName() + "$MinecraftInventory");
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle titleSetter() {
+        if (CUSTOM_INVENTORY == null)
+            return null;
+        try {
+            final Field field = CUSTOM_INVENTORY.getDeclaredField("title");
+            field.setAccessible(true);
+            return MethodHandles.lookup().unreflectSetter(field);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,365 @@
+package com.gamerbah.inventorytoolkit;
+/* Created by GamerBah on 10/17/2026 */
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A {@link HashMap} that reads from, and writes through to, a map kept somewhere else
+ * <p>
+ * Lets {@link ItemBuilder} keep handing out the {@link HashMap}s its getters always
+ * returned while it stores its data in a shared, copy-on-write form. None of the
+ * storage inherited from {@link HashMap} is used. Iterators walk a copy of the keys,
+ * so writing to the map while iterating is allowed
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ */
+abstract class WriteThroughMap<K, V> extends HashMap<K, V> {
+
+    /**
+     * Gets the current contents
+     *
+     * @return the map to read from, which must not be modified
+     */
+    abstract Map<K, V> map();
+
+    /**
+     * Sets the value of a key
+     *
+     * @param key   the key
+     * @param value the value
+     */
+    abstract void write(K key, V value);
+
+    /**
+     * Removes a key
+     *
+     * @param key the key, which is known to be present
+     */
+    abstract void delete(Object key);
+
+    @Override
+    public int size() {
+        return map().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map().isEmpty();
+    }
+
+    @Override
+    public V get(final Object key) {
+        return map().get(key);
+    }
+
+    @Override
+    public V getOrDefault(final Object key, final V defaultValue) {
+        return map().getOrDefault(key, defaultValue);
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return map().containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(final Object value) {
+        return map().containsValue(value);
+    }
+
+    @Override
+    public V put(final K key, final V value) {
+        final V old = get(key);
+        write(key, value);
+        return old;
+    }
+
+    @Override
+    public void putAll(final Map<? extends K, ? extends V> map) {
+        map.forEach(this::put);
+    }
+
+    @Override
+    public V remove(final Object key) {
+        if (!containsKey(key))
+            return null;
+        final V old = get(key);
+        delete(key);
+        return old;
+    }
+
+    @Override
+    public boolean remove(final Object key, final Object value) {
+        if (!containsKey(key) || !Objects.equals(get(key), value))
+            return false;
+        delete(key);
+        return true;
+    }
+
+    @Override
+    public V replace(final K key, final V value) {
+        return containsKey(key) ? put(key, value) : null;
+    }
+
+    @Override
+    public boolean replace(final K key, final V oldValue, final V newValue) {
+        if (!containsKey(key) || !Objects.equals(get(key), oldValue))
+            return false;
+        write(key, newValue);
+        return true;
+    }
+
+    @Override
+    public V putIfAbsent(final K key, final V value) {
+        final V old = get(key);
+        if (old == null)
+            write(key, value);
+        return old;
+    }
+
+    @Override
+    public V computeIfAbsent(final K key, final Function<? super K, ? extends V> function) {
+        final V old = get(key);
+        if (old != null)
+            return old;
+        final V value = function.apply(key);
+        if (value != null)
+            write(key, value);
+        return value;
+    }
+
+    @Override
+    public V computeIfPresent(final K key, final BiFunction<? super K, ? super V, ? extends V> function) {
+        final V old = get(key);
+        if (old == null)
+            return null;
+        return store(key, function.apply(key, old));
+    }
+
+    @Override
+    public V compute(final K key, final BiFunction<? super K, ? super V, ? extends V> function) {
+        return store(key, function.apply(key, get(key)));
+    }
+
+    @Override
+    public V merge(final K key, final V value, final BiFunction<? super V, ? super V, ? extends V> function) {
+        final V old = get(key);
+        return store(key, old == null ? value : function.apply(old, value));
+    }
+
+    private V store(final K key, final V value) {
+        if (value != null) {
+            write(key, value);
+        } else if (containsKey(key))
+            delete(key);
+        return value;
+    }
+
+    @Override
+    public void replaceAll(final BiFunction<? super K, ? super V, ? extends V> function) {
+        for (K key : keys())
+            write(key, function.apply(key, get(key)));
+    }
+
+    @Override
+    public void clear() {
+        for (K key : keys())
+            delete(key);
+    }
+
+    @Override
+    public void forEach(final BiConsumer<? super K, ? super V> action) {
+        map().forEach(action);
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return new AbstractSet<K>() {
+            @Override
+            public Iterator<K> iterator() {
+                return new KeyIterator<K>() {
+                    @Override
+                    K element(final K key) {
+                        return key;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return WriteThroughMap.this.size();
+            }
+
+            @Override
+            public boolean contains(final Object key) {
+                return containsKey(key);
+            }
+
+            @Override
+            public boolean remove(final Object key) {
+                if (!containsKey(key))
+                    return false;
+                delete(key);
+                return true;
+            }
+
+            @Override
+            public void clear() {
+                WriteThroughMap.this.clear();
+            }
+        };
+    }
+
+    @Override
+    public Collection<V> values() {
+        return new AbstractCollection<V>() {
+            @Override
+            public Iterator<V> iterator() {
+                return new KeyIterator<V>() {
+                    @Override
+                    V element(final K key) {
+                        return get(key);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return WriteThroughMap.this.size();
+            }
+
+            @Override
+            public boolean contains(final Object value) {
+                return containsValue(value);
+            }
+
+            @Override
+            public void clear() {
+                WriteThroughMap.this.clear();
+            }
+        };
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return new AbstractSet<Map.Entry<K, V>>() {
+            @Override
+            public Iterator<Map.Entry<K, V>> iterator() {
+                return new KeyIterator<Map.Entry<K, V>>() {
+                    @Override
+                    Map.Entry<K, V> element(final K key) {
+                        return new AbstractMap.SimpleEntry<K, V>(key, get(key)) {
+                            @Override
+                            public V setValue(final V value) {
+                                write(key, value);
+                                return super.setValue(value);
+                            }
+                        };
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return WriteThroughMap.this.size();
+            }
+
+            @Override
+            public boolean contains(final Object o) {
+                if (!(o instanceof Map.Entry))
+                    return false;
+                final Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+                return containsKey(entry.getKey()) && Objects.equals(get(entry.getKey()), entry.getValue());
+            }
+
+            @Override
+            public boolean remove(final Object o) {
+                if (!contains(o))
+                    return false;
+                delete(((Map.Entry<?, ?>) o).getKey());
+                return true;
+            }
+
+            @Override
+            public void clear() {
+                WriteThroughMap.this.clear();
+            }
+        };
+    }
+
+    @Override
+    public HashMap<K, V> clone() {
+        return new HashMap<>(map());
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return o == this || map().equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return map().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return map().toString();
+    }
+
+    private ArrayList<K> keys() {
+        return new ArrayList<>(map().keySet());
+    }
+
+    /**
+     * Walks a copy of the keys, removing through the map
+     *
+     * @param <E> the type of the elements returned
+     */
+    private abstract class KeyIterator<E> implements Iterator<E> {
+
+        private final Iterator<K> keys = keys().iterator();
+        private K last;
+        private boolean removable = false;
+
+        abstract E element(K key);
+
+        @Override
+        public boolean hasNext() {
+            return keys.hasNext();
+        }
+
+        @Override
+        public E next() {
+            if (!keys.hasNext())
+                throw new NoSuchElementException();
+            last = keys.next();
+            removable = true;
+            return element(last);
+        }
+
+        @Override
+        public void remove() {
+            if (!removable)
+                throw new IllegalStateException();
+            removable = false;
+            if (containsKey(last))
+                delete(last);
+        }
+    }
+
+}
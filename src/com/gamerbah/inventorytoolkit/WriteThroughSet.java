@@ -0,0 +1,146 @@
+package com.gamerbah.inventorytoolkit;
+/* Created by GamerBah on 10/17/2026 */
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * A {@link HashSet} that reads from, and writes through to, a set kept somewhere else
+ * <p>
+ * The set counterpart of {@link WriteThroughMap}. None of the storage inherited
+ * from {@link HashSet} is used, and iterators walk a copy of the elements
+ *
+ * @param <E> the type of elements
+ */
+abstract class WriteThroughSet<E> extends HashSet<E> {
+
+    /**
+     * Gets the current contents
+     *
+     * @return the set to read from, which must not be modified
+     */
+    abstract Set<E> set();
+
+    /**
+     * Adds an element
+     *
+     * @param element the element, which is known to be absent
+     */
+    abstract void insert(E element);
+
+    /**
+     * Removes an element
+     *
+     * @param element the element, which is known to be present
+     */
+    abstract void delete(Object element);
+
+    @Override
+    public int size() {
+        return set().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return set().isEmpty();
+    }
+
+    @Override
+    public boolean contains(final Object element) {
+        return set().contains(element);
+    }
+
+    @Override
+    public boolean add(final E element) {
+        if (contains(element))
+            return false;
+        insert(element);
+        return true;
+    }
+
+    @Override
+    public boolean remove(final Object element) {
+        if (!contains(element))
+            return false;
+        delete(element);
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        for (E element : new ArrayList<>(set()))
+            delete(element);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        final Iterator<E> elements = new ArrayList<>(set()).iterator();
+        return new Iterator<E>() {
+            private E last;
+            private boolean removable = false;
+
+            @Override
+            public boolean hasNext() {
+                return elements.hasNext();
+            }
+
+            @Override
+            public E next() {
+                if (!elements.hasNext())
+                    throw new NoSuchElementException();
+                last = elements.next();
+                removable = true;
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                if (!removable)
+                    throw new IllegalStateException();
+                removable = false;
+                WriteThroughSet.this.remove(last);
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(this, Spliterator.DISTINCT);
+    }
+
+    @Override
+    public Object[] toArray() {
+        return set().toArray();
+    }
+
+    @Override
+    public <T> T[] toArray(final T[] array) {
+        return set().toArray(array);
+    }
+
+    @Override
+    public HashSet<E> clone() {
+        return new HashSet<>(set());
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return o == this || set().equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return set().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return set().toString();
+    }
+
+}